@@ -23,11 +23,13 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindSaver;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -45,6 +47,7 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected WriteBehindSaver saver;
 
     @Override
     public void init() throws Exception {
@@ -57,12 +60,22 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        boolean forceToDisk = config.getDurability() != Config.Durability.NONE;
+        AddressBookStorage addressBookStorage = config.isAddressBookJournalEnabled()
+                ? new JournalAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                        JournalAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD_BYTES, forceToDisk)
+                : new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(), forceToDisk);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        if (config.getDurability() == Config.Durability.PER_COMMAND) {
+            logic = new LogicManager(model, storage);
+        } else {
+            // each background write covers every command since the previous one, so one wait for the device suffices
+            saver = new WriteBehindSaver(storage, config.getSaveIntervalMillis());
+            logic = new LogicManager(model, storage, saver);
+        }
 
         ui = new UiManager(logic);
     }
@@ -177,6 +190,15 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping StudentConnect ] =============================");
+        if (saver != null) {
+            try {
+                saver.close();
+            } catch (IOException e) {
+                logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+            }
+        }
+        logger.info("Address book saves with durability " + config.getDurability() + ": "
+                + logic.getSaveLatencySummary());
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
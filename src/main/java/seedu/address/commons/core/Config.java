@@ -14,9 +14,24 @@ public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
 
+    /**
+     * How soon saved address book changes are guaranteed to be on the storage device, surviving a power failure.
+     */
+    public enum Durability {
+        /** Changes are saved in the background and left for the operating system to write out. */
+        NONE,
+        /** Changes are saved in the background, waiting once per save for the device, which covers many commands. */
+        PER_BATCH,
+        /** Each command waits until its changes are on the device before returning. */
+        PER_COMMAND
+    }
+
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long saveIntervalMillis = 200;
+    private boolean addressBookJournalEnabled = false;
+    private Durability durability = Durability.PER_BATCH;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +49,36 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the shortest time between two background saves of the address book, in milliseconds.
+     */
+    public long getSaveIntervalMillis() {
+        return saveIntervalMillis;
+    }
+
+    public void setSaveIntervalMillis(long saveIntervalMillis) {
+        this.saveIntervalMillis = saveIntervalMillis;
+    }
+
+    /**
+     * Returns true if changes to the address book are appended to a journal instead of rewriting the whole file.
+     */
+    public boolean isAddressBookJournalEnabled() {
+        return addressBookJournalEnabled;
+    }
+
+    public void setAddressBookJournalEnabled(boolean addressBookJournalEnabled) {
+        this.addressBookJournalEnabled = addressBookJournalEnabled;
+    }
+
+    public Durability getDurability() {
+        return durability;
+    }
+
+    public void setDurability(Durability durability) {
+        this.durability = durability;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +92,16 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && saveIntervalMillis == otherConfig.saveIntervalMillis
+                && addressBookJournalEnabled == otherConfig.addressBookJournalEnabled
+                && durability == otherConfig.durability;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, saveIntervalMillis, addressBookJournalEnabled,
+                durability);
     }
 
     @Override
@@ -60,6 +109,9 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("saveIntervalMillis", saveIntervalMillis)
+                .add("addressBookJournalEnabled", addressBookJournalEnabled)
+                .add("durability", durability)
                 .toString();
     }
 
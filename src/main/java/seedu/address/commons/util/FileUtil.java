@@ -1,10 +1,16 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
 
 /**
  * Writes and reads files
@@ -77,7 +83,89 @@ public class FileUtil {
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, content, false);
+    }
+
+    /**
+     * Replaces the contents of a file with the given string, creating the file if it does not exist yet.
+     * The string is written to a temporary file that is then renamed over {@code file}, so a crash mid-write leaves
+     * either the old contents or the new, never a mix. A symbolic link is written through rather than replaced, and
+     * the file keeps its permissions.
+     *
+     * @param forceToDisk whether to wait until the new contents are on the storage device, so they also survive a
+     *     power failure.
+     */
+    public static void writeToFile(Path file, String content, boolean forceToDisk) throws IOException {
+        boolean isExisting = Files.exists(file);
+        Path target = isExisting ? file.toRealPath() : file.toAbsolutePath();
+        Path directory = target.getParent();
+        Path tempFile = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        try {
+            if (isExisting) {
+                // temporary files are only readable by their owner, which the rename would pass on to the target
+                copyPermissions(target, tempFile);
+            }
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                writeFully(channel, content.getBytes(CHARSET));
+                if (forceToDisk) {
+                    channel.force(true);
+                }
+            }
+            try {
+                Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        if (forceToDisk) {
+            forceDirectory(directory);
+        }
+    }
+
+    /**
+     * Appends the given bytes to a file, creating the file if it does not exist yet.
+     *
+     * @param forceToDisk whether to wait until the appended bytes are on the storage device.
+     */
+    public static void appendToFile(Path file, byte[] content, boolean forceToDisk) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            writeFully(channel, content);
+            if (forceToDisk) {
+                channel.force(true);
+            }
+        }
+    }
+
+    private static void writeFully(FileChannel channel, byte[] content) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Gives {@code target} the permissions of {@code source}. Does nothing on file systems without POSIX permissions.
+     */
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        PosixFileAttributeView targetView = Files.getFileAttributeView(target, PosixFileAttributeView.class);
+        if (targetView != null) {
+            targetView.setPermissions(Files.getPosixFilePermissions(source));
+        }
+    }
+
+    /**
+     * Waits until the entries of {@code directory}, such as a file just renamed into it, are on the storage device.
+     * Does nothing on platforms that cannot open a directory for this.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // directories cannot be opened on some platforms, which make renames durable by other means
+        }
     }
 
 }
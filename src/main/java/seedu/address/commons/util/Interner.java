@@ -0,0 +1,51 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * Hands out one canonical instance per distinct text for an immutable value type, so equal values share an object.
+ * Each entry is keyed by the canonical instance's own text and held weakly, so values no longer referenced
+ * anywhere else can still be garbage collected.
+ */
+public final class Interner<T> {
+
+    private final Map<String, WeakReference<T>> canonical = new WeakHashMap<>();
+    private final Function<String, T> factory;
+    private final Function<T, String> textOf;
+
+    /**
+     * Creates an interner that builds new values with {@code factory}.
+     * {@code textOf} must return the text the value was built from, held by the value itself.
+     */
+    public Interner(Function<String, T> factory, Function<T, String> textOf) {
+        this.factory = requireNonNull(factory);
+        this.textOf = requireNonNull(textOf);
+    }
+
+    /**
+     * Returns the canonical value for {@code text}, building it on first use.
+     * Invalid text is rejected by the factory before anything is cached.
+     */
+    public synchronized T intern(String text) {
+        requireNonNull(text);
+        WeakReference<T> reference = canonical.get(text);
+        T value = reference == null ? null : reference.get();
+        if (value == null) {
+            value = factory.apply(text);
+            canonical.put(textOf.apply(value), new WeakReference<>(value));
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of canonical values currently held.
+     */
+    public synchronized int size() {
+        return canonical.size();
+    }
+}
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -19,6 +20,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindSaver;
 
 /**
  * The main LogicManager of the app.
@@ -34,16 +36,44 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    /** Saves in the background, or null if commands save before they return. */
+    private final WriteBehindSaver saver;
+    /** The modification count of the address book when it was last saved, or -1 before the first save. */
+    private long savedModificationCount = -1;
+    private long saveCount;
+    private long skippedSaveCount;
+    private long totalSaveNanos;
+    private long maxSaveNanos;
+    /** Set by the saver's thread when a background save fails, so the next command saves again. */
+    private volatile boolean backgroundSaveFailed;
+    private volatile Consumer<String> saveErrorHandler = message -> { };
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Every command that changes the address book saves it before returning.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
+        this.saver = null;
         addressBookParser = new AddressBookParser();
     }
 
+    /**
+     * Constructs a {@code LogicManager} that hands changes to {@code saver} instead of waiting for them to be saved.
+     * Failed saves are reported to the handler set with {@link #setSaveErrorHandler}.
+     */
+    public LogicManager(Model model, Storage storage, WriteBehindSaver saver) {
+        this.model = model;
+        this.storage = storage;
+        this.saver = saver;
+        addressBookParser = new AddressBookParser();
+        saver.setErrorHandler(error -> {
+            backgroundSaveFailed = true;
+            saveErrorHandler.accept(getSaveErrorMessage(error));
+        });
+    }
+
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
@@ -52,17 +82,95 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        // Commands that only read the address book leave its modification count alone, so there is nothing to save
+        long modificationCount = model.getAddressBookModificationCount();
+        if (backgroundSaveFailed) {
+            backgroundSaveFailed = false;
+            savedModificationCount = -1;
+        }
+        if (modificationCount == savedModificationCount) {
+            skippedSaveCount++;
+            logger.fine("Address book unchanged; skipped save " + skippedSaveCount);
+            return commandResult;
+        }
+
+        long saveStart = System.nanoTime();
+        if (saver != null) {
+            saver.submit(model.getAddressBookSnapshot());
+        } else {
+            try {
+                storage.saveAddressBook(model.getAddressBook());
+            } catch (IOException ioe) {
+                throw new CommandException(getSaveErrorMessage(ioe), ioe);
+            }
         }
+        long saveNanos = System.nanoTime() - saveStart;
+        totalSaveNanos += saveNanos;
+        maxSaveNanos = Math.max(maxSaveNanos, saveNanos);
+        savedModificationCount = modificationCount;
+        saveCount++;
 
         return commandResult;
     }
 
+    private static String getSaveErrorMessage(IOException error) {
+        if (error instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, error.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, error.getMessage());
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        this.saveErrorHandler = saveErrorHandler;
+    }
+
+    /**
+     * Returns the number of times a command's changes were saved to storage, or handed to the background saver.
+     */
+    public long getSaveCount() {
+        return saveCount;
+    }
+
+    /**
+     * Returns the total time commands have waited on saving, in nanoseconds.
+     */
+    public long getTotalSaveNanos() {
+        return totalSaveNanos;
+    }
+
+    /**
+     * Returns the longest time a single command has waited on saving, in nanoseconds.
+     */
+    public long getMaxSaveNanos() {
+        return maxSaveNanos;
+    }
+
+    @Override
+    public String getSaveLatencySummary() {
+        String summary = String.format("%d saves, %s per command, %s at most", saveCount,
+                formatMillis(saveCount == 0 ? 0 : totalSaveNanos / saveCount), formatMillis(maxSaveNanos));
+        if (saver == null) {
+            return summary;
+        }
+        long writeCount = saver.getWriteCount();
+        return summary + String.format("; %d background writes, %s per write, %s at most", writeCount,
+                formatMillis(writeCount == 0 ? 0 : saver.getTotalWriteNanos() / writeCount),
+                formatMillis(saver.getMaxWriteNanos()));
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format("%.3f ms", nanos / 1e6);
+    }
+
+    /**
+     * Returns the number of commands after which saving was skipped because the address book had not changed since
+     * it was last saved.
+     */
+    public long getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -95,6 +203,7 @@ public class LogicManager implements Logic {
 
         if (addressBookOptional.isPresent()) {
             model.setAddressBook(addressBookOptional.get());
+            model.commitAddressBook();
             logger.info("Successfully imported address book from: " + filePath);
         } else {
             throw new DataLoadingException(new Exception("File not found or is empty: " + filePath));
@@ -5,6 +5,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.address.logic.parser.Prefix;
+import seedu.address.model.Page;
 import seedu.address.model.person.Person;
 
 /**
@@ -16,6 +17,8 @@ public class Messages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid.";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
+    public static final String MESSAGE_PERSONS_PAGE_OVERVIEW = "%1$d persons listed! Showing %2$d to %3$d.";
+    public static final String MESSAGE_PERSONS_PAGE_EMPTY = "%1$d persons listed! None are left after skipping %2$d.";
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
     public static final String MESSAGE_PAYMENT_EXCEEDS_OWED_AMOUNT = "The payment exceeds the owed amount.";
@@ -36,6 +39,21 @@ public class Messages {
         return MESSAGE_DUPLICATE_FIELDS + String.join(" ", duplicateFields);
     }
 
+    /**
+     * Returns how many persons matched, and which of them are shown when only {@code page} of them is.
+     */
+    public static String formatPersonsListed(int matchingCount, Page page) {
+        if (page.isAll()) {
+            return String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, matchingCount);
+        }
+        int shownCount = page.sizeOf(matchingCount);
+        if (shownCount == 0) {
+            return String.format(MESSAGE_PERSONS_PAGE_EMPTY, matchingCount, page.getOffset());
+        }
+        return String.format(MESSAGE_PERSONS_PAGE_OVERVIEW, matchingCount, page.getOffset() + 1,
+                page.getOffset() + shownCount);
+    }
+
     /**
      * Formats the {@code person} for display to the user.
      */
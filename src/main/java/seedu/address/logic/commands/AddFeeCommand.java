@@ -87,7 +87,7 @@ public class AddFeeCommand extends Command {
                 Optional.of(updatedFinance)
         );
 
-        model.setPerson(student, updatedPerson);
+        model.setPersonById(student.getId(), updatedPerson);
         model.commitAddressBook();
 
         return new CommandResult(String.format(MESSAGE_SUCCESS,
@@ -97,7 +97,8 @@ public class AddLessonCommand extends Command {
             feedback = "Warning: " + String.format(MESSAGE_OVERWRITING, editedPerson.getName(), originalLesson) + "\n";
         }
 
-        model.setPerson(personToAddLesson, editedPerson);
+        model.setPersonById(personToAddLesson.getId(), editedPerson);
+        model.commitAddressBook();
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
         feedback += String.format(MESSAGE_ADD_LESSON_SUCCESS, editedPerson.getName(), editedPerson.getLesson()
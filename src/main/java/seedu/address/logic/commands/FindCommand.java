@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.Page;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 
 /**
@@ -17,21 +18,32 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... [offset/OFFSET] [limit/LIMIT]\n"
             + "Example: " + COMMAND_WORD + " alice bob charlie";
 
     private final NameContainsKeywordsPredicate predicate;
+    private final Page page;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
+        this(predicate, Page.ALL);
+    }
+
+    /**
+     * Creates a FindCommand that shows only {@code page} of the persons matching {@code predicate}.
+     */
+    public FindCommand(NameContainsKeywordsPredicate predicate, Page page) {
+        requireNonNull(page);
         this.predicate = predicate;
+        this.page = page;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
+        // The model resolves keyword predicates through its indexes and remembers recent results
         model.updateFilteredPersonList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        model.setFilteredPersonListPage(page);
+        return new CommandResult(Messages.formatPersonsListed(model.getMatchingPersonCount(), page));
     }
 
     @Override
@@ -46,13 +58,14 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate) && page.equals(otherFindCommand.page);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("page", page)
                 .toString();
     }
 }
@@ -3,23 +3,75 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.Page;
 
 /**
- * Lists all persons in the address book to the user.
+ * Lists all persons in the address book to the user, optionally only one page of them.
  */
 public class ListCommand extends Command {
 
     public static final String COMMAND_WORD = "list";
 
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all persons, or only the page of them "
+            + "given by an offset and a limit.\n"
+            + "Parameters: [offset/OFFSET] [limit/LIMIT]\n"
+            + "Example: " + COMMAND_WORD + " offset/20 limit/20";
+
     public static final String MESSAGE_SUCCESS = "Listed all persons";
     public static final String MESSAGE_EMPTY_LIST = "List is empty";
 
+    private final Page page;
+
+    public ListCommand() {
+        this(Page.ALL);
+    }
+
+    /**
+     * Creates a ListCommand that shows only {@code page} of the persons.
+     */
+    public ListCommand(Page page) {
+        requireNonNull(page);
+        this.page = page;
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        model.setFilteredPersonListPage(page);
+        if (!page.isAll()) {
+            return new CommandResult(Messages.formatPersonsListed(model.getMatchingPersonCount(), page));
+        }
         return new CommandResult(model.getFilteredPersonList().isEmpty() ? MESSAGE_EMPTY_LIST : MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListCommand)) {
+            return false;
+        }
+
+        ListCommand otherListCommand = (ListCommand) other;
+        return page.equals(otherListCommand.page);
+    }
+
+    @Override
+    public int hashCode() {
+        return page.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("page", page)
+                .toString();
+    }
 }
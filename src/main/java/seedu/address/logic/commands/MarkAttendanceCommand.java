@@ -68,7 +68,8 @@ public class MarkAttendanceCommand extends Command {
 
         Person editedPerson = personToEdit.markAttendance(this.attendanceStatus);
 
-        model.setPerson(personToEdit, editedPerson);
+        model.setPersonById(personToEdit.getId(), editedPerson);
+        model.commitAddressBook();
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
         logger.log(Level.INFO, String.format(MESSAGE_MARK_ATTENDANCE_SUCCESS, editedPerson.getName(),
@@ -64,11 +64,12 @@ public class PayCommand extends Command {
         checkValidPayment(personToAddPayment.getFinance(), payment);
 
         //update Finance object for this person based on the payment
-        model.setPerson(personToAddPayment, new Person(
+        model.setPersonById(personToAddPayment.getId(), new Person(
                 personToAddPayment.getName(), personToAddPayment.getPhone(), personToAddPayment.getEmail(),
                 personToAddPayment.getAddress(), personToAddPayment.getTags(), personToAddPayment.getLesson(),
                 Optional.ofNullable(updateFinance(personToAddPayment, payment))
         ));
+        model.commitAddressBook();
         return new CommandResult(String.format(MESSAGE_SUCCESS, payment, personToAddPayment.getName()));
     }
 
@@ -90,7 +91,7 @@ public class PayCommand extends Command {
         if (payment.isZero()) {
             throw new CommandException(Messages.MESSAGE_PAYMENT_ZERO);
         }
-        if (personFinance.get().getOwedAmount().getAmount() - payment.getAmount() < 0) {
+        if (personFinance.get().getOwedAmount().compareTo(payment) < 0) {
             throw new CommandException(Messages.MESSAGE_PAYMENT_EXCEEDS_OWED_AMOUNT);
         }
     }
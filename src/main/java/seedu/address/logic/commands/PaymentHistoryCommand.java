@@ -3,16 +3,14 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
-import java.time.LocalTime;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
-import java.util.Optional;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.finance.Finance;
 import seedu.address.model.finance.PaymentEntry;
+import seedu.address.model.person.PaymentRecord;
 import seedu.address.model.person.Person;
 
 /**
@@ -32,78 +30,37 @@ public class PaymentHistoryCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        List<Person> personList = model.getFilteredPersonList();
-        List<PaymentHistoryCommand.Row> rows = new ArrayList<>();
+        // Only payments of persons in the current filtered list are shown
+        Set<Person> shownPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        shownPersons.addAll(model.getFilteredPersonList());
 
-        for (Person p : personList) {
-            Optional<Finance> optionalFinance = p.getFinance();
-            if (optionalFinance.isEmpty()) {
-                continue;
-            }
+        StringBuilder output = new StringBuilder("Payment history (newest first):\n");
+        LocalDate current = null;
+        long totalCents = 0;
 
-            List<PaymentEntry> history = optionalFinance.get().getHistory();
-            if (history.isEmpty()) {
+        // The model keeps payments in time order, so they can be streamed newest first without sorting
+        for (PaymentRecord record : model.getPaymentsNewestFirst()) {
+            if (!shownPersons.contains(record.getPayer())) {
                 continue;
             }
-            for (PaymentEntry pe : history) {
-                rows.add(new Row(
-                        pe.getDate(),
-                        pe.getTime(),
-                        pe.getAmount().getAmount(),
-                        p.getName().toString()
-                ));
+            PaymentEntry payment = record.getPayment();
+            if (!payment.getDate().equals(current)) {
+                current = payment.getDate();
+                output.append("\n").append(current).append("\n");
             }
-        }
+            totalCents += payment.getAmount().toCents();
 
-        if (rows.isEmpty()) {
-            return new CommandResult(PAYMENT_EMPTY);
+            output.append("  - [").append(record.getPayer().getName()).append("] ")
+                    .append(payment.getAmount())
+                    .append("\n");
         }
 
-        rows.sort(Comparator.comparing(Row::getDate).reversed().thenComparing(Row::getTime).reversed());
-
-        String output = "Payment history (newest first):\n";
-        LocalDate current = null;
-        double total = 0.0;
-
-        for (Row row : rows) {
-            if (!row.getDate().equals(current)) {
-                current = row.getDate();
-                output += "\n" + current + "\n";
-            }
-            total += row.amount;
-
-            output += "  - [" + row.student + "] " + String.format("%.2f", row.amount);
-            output += "\n";
-        }
-
-        output += "\nTotal paid: " + String.format("%.2f", total);
-
-        return new CommandResult(output, false, false, true);
-    }
-
-    private static final class Row {
-        private final LocalDate date;
-        private final LocalTime time;
-        private final double amount;
-        private final String student;
-
-        public Row(LocalDate date, LocalTime time, double amount, String student) {
-            this.date = date;
-            this.time = time;
-            this.amount = amount;
-            this.student = student;
+        if (current == null) {
+            return new CommandResult(PAYMENT_EMPTY);
         }
 
-        public LocalDate getDate() {
-            return date;
-        }
+        output.append("\nTotal paid: ").append(String.format("%.2f", totalCents / 100.0));
 
-        public LocalTime getTime() {
-            return time;
-        }
-
-        public String getStudent() {
-            return student;
-        }
+        return new CommandResult(output.toString(), false, false, true);
     }
 }
@@ -4,12 +4,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.temporal.TemporalAdjusters;
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -30,74 +26,36 @@ public class ScheduleCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
+        if (!model.hasLessons()) {
+            return new CommandResult("NO LESSONS FOUND THIS WEEK!");
+        }
+
         LocalDate today = LocalDate.now();
         LocalDate monday = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
         LocalDate sunday = monday.plusDays(6);
 
-        List<Person> personList = model.getAddressBook().getPersonList();
-        List<Row> rows = new ArrayList<>();
+        StringBuilder output = new StringBuilder();
+        output.append("Weekly schedule (").append(monday).append(" to ").append(sunday).append("):\n");
 
-        for (Person p : personList) {
-            Optional<Lesson> optional = p.getLesson();
-            if (optional.isEmpty()) {
+        // The model keeps lessons bucketed by day and ordered by time, so no sorting is needed here
+        for (DayOfWeek day : DayOfWeek.values()) {
+            List<Person> persons = model.getPersonsWithLessonsOn(day);
+            if (persons.isEmpty()) {
                 continue;
             }
 
-            Lesson lesson = optional.get();
-
-            DayOfWeek dayOfWeek = lesson.getDate().asDayOfWeek();
-            LocalDate lessonDate = monday.plusDays(dayOfWeek.getValue() - DayOfWeek.MONDAY.getValue());
-            LocalDateTime lessonStart = LocalDateTime.of(lessonDate, lesson.getTime().asLocalTime());
-
-            rows.add(new Row(lessonStart, p, lesson));
-        }
-
-        rows.sort(Comparator.comparing(Row::getStart));
-
-        if (rows.isEmpty()) {
-            return new CommandResult("NO LESSONS FOUND THIS WEEK!");
-        }
-
-        String output = "Weekly schedule (" + monday + " to " + sunday + "):\n";
+            LocalDate lessonDate = monday.plusDays(day.getValue() - DayOfWeek.MONDAY.getValue());
+            output.append("\n").append(day.name()).append(" ").append(lessonDate).append("\n");
 
-        DayOfWeek current = null;
-        for (Row r : rows) {
-            DayOfWeek day = r.getStart().getDayOfWeek();
-            if (current != day) {
-                current = day;
-                output += "\n" + day.name() + " " + r.getStart().toLocalDate() + "\n";
+            for (Person p : persons) {
+                Lesson lesson = p.getLesson().get();
+                output.append(" ").append(lesson.getTime().asLocalTime())
+                        .append(" - [").append(p.getName()).append("] ")
+                        .append(lesson.getLessonName())
+                        .append(" @ ").append(lesson.getLocation())
+                        .append("\n");
             }
-
-            output += " " + r.getStart().toLocalTime()
-                    + " - [" + r.getPerson().getName() + "] "
-                    + r.getLesson().getLessonName()
-                    + " @ " + r.getLesson().getLocation()
-                    + "\n";
-        }
-        return new CommandResult(output, false, false, true);
-    }
-
-    private static final class Row {
-        private final LocalDateTime start;
-        private final Person person;
-        private final Lesson lesson;
-
-        public Row(LocalDateTime start, Person person, Lesson lesson) {
-            this.start = start;
-            this.person = person;
-            this.lesson = lesson;
-        }
-
-        public LocalDateTime getStart() {
-            return start;
-        }
-
-        public Lesson getLesson() {
-            return lesson;
-        }
-
-        public Person getPerson() {
-            return person;
         }
+        return new CommandResult(output.toString(), false, false, true);
     }
 }
@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.PersonSortKey;
+
+/**
+ * Sorts the displayed person list by name, amount owed, attendance rate or next lesson time.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the displayed students by name, amount owed "
+            + "(largest first), attendance rate (highest first) or next lesson (soonest first). "
+            + "'none' restores the order students were added in.\n"
+            + "Parameters: name|owed|attendance|lesson|none\n"
+            + "Example: " + COMMAND_WORD + " owed";
+
+    public static final String MESSAGE_SUCCESS = "Sorted by %1$s";
+    public static final String MESSAGE_UNSORTED = "Showing students in the order they were added";
+
+    private final PersonSortKey sortKey;
+
+    /**
+     * Creates a SortCommand that sorts by {@code sortKey}.
+     */
+    public SortCommand(PersonSortKey sortKey) {
+        requireNonNull(sortKey);
+        this.sortKey = sortKey;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.sortFilteredPersonList(sortKey.comparator(LocalDateTime.now()));
+        if (sortKey == PersonSortKey.NONE) {
+            return new CommandResult(MESSAGE_UNSORTED);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, sortKey.getKeyword()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCommand)) {
+            return false;
+        }
+
+        SortCommand otherSortCommand = (SortCommand) other;
+        return sortKey == otherSortCommand.sortKey;
+    }
+
+    @Override
+    public int hashCode() {
+        return sortKey.hashCode();
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.AnalyticsSnapshot;
+
+/**
+ * Shows totals across the whole address book: amounts owed, attendance and lessons per day.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows totals for outstanding payments, attendance "
+            + "and lessons across all students.\n"
+            + "Example: " + COMMAND_WORD;
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        // The snapshot holds the figures in primitive columns, so none of these totals visit a Person
+        AnalyticsSnapshot snapshot = model.getAnalyticsSnapshot();
+
+        StringBuilder output = new StringBuilder();
+        output.append("Students: ").append(snapshot.size()).append("\n");
+        output.append("Total outstanding: ").append(String.format("%.2f", snapshot.getTotalOwedCents() / 100.0))
+                .append(" (owed by ").append(snapshot.getDebtorCount()).append(" students)\n");
+        output.append("Attendance: ").append(snapshot.getTotalAttendances()).append("/")
+                .append(snapshot.getTotalLessons()).append(" lessons attended");
+        if (snapshot.getTotalLessons() > 0) {
+            output.append(String.format(" (%.1f%%)", snapshot.getAttendanceRate() * 100));
+        }
+        output.append("\nLessons per day:");
+        int[] lessonCounts = snapshot.getLessonCountsByDay();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            output.append(" ").append(day.name()).append(" ").append(lessonCounts[day.ordinal()]);
+        }
+        return new CommandResult(output.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // Stateless command: any two instances are considered equal
+        return other == this || (other != null && other.getClass() == this.getClass());
+    }
+
+    @Override
+    public int hashCode() {
+        return COMMAND_WORD.hashCode();
+    }
+}
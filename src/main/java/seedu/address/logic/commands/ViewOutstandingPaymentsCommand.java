@@ -2,11 +2,12 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
 import java.util.List;
 
+import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.Page;
 import seedu.address.model.person.Person;
 
 /**
@@ -15,8 +16,29 @@ import seedu.address.model.person.Person;
 public class ViewOutstandingPaymentsCommand extends Command {
     public static final String COMMAND_WORD = "outstanding";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": View all outstanding payments.\n"
-            + "Example: " + COMMAND_WORD;
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": View all outstanding payments, or only the "
+            + "largest ones (top/), or a page of them (offset/ and limit/).\n"
+            + "Parameters: [top/COUNT] [offset/OFFSET] [limit/LIMIT]\n"
+            + "Example: " + COMMAND_WORD + " top/20";
+
+    public static final String MESSAGE_TOP_AND_LIMIT = "Use either top/ or limit/, not both.";
+
+    private final Page page;
+    private final boolean largestFirst;
+
+    public ViewOutstandingPaymentsCommand() {
+        this(Page.ALL, false);
+    }
+
+    /**
+     * Creates a command that shows {@code page} of the persons with outstanding payments, ordered by amount owed if
+     * {@code largestFirst} and by their order in the address book otherwise.
+     */
+    public ViewOutstandingPaymentsCommand(Page page, boolean largestFirst) {
+        requireNonNull(page);
+        this.page = page;
+        this.largestFirst = largestFirst;
+    }
 
     /**
      * Executes the command to view outstanding payments.
@@ -27,27 +49,22 @@ public class ViewOutstandingPaymentsCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> personList = model.getAddressBook().getPersonList();
-        if (personList.isEmpty()) {
+        // Only the requested page is collected: the largest debts come straight off the model's balance index, and
+        // a page in address book order stops walking the list once it is full
+        List<Person> outstandingPersonList = largestFirst ? model.getTopDebtors(page)
+                : model.getOutstandingPersons(page);
+        if (outstandingPersonList.isEmpty()) {
             return new CommandResult("No outstanding payments found.");
         }
-        // filter those who have outstanding payments (owed amount > 0)
-        List<Person> outstandingPersonList = new ArrayList<>();
         StringBuilder outstandingPayments = new StringBuilder();
-        int outstandingCount = 0;
-        for (Person p : personList) {
-            if (p.getFinance().isPresent() && p.getFinance().get().getOwedAmount().getAmount() > 0) {
-                outstandingCount++;
-                outstandingPersonList.add(p);
-                outstandingPayments.append(outstandingCount).append(":").append("\n");
-                outstandingPayments.append(p.getName()).append("\n");
-                outstandingPayments.append(p.getEmail()).append("\n");
-                outstandingPayments.append(p.getPhone()).append("\n");
-                outstandingPayments.append(p.getFinance().get()).append("\n");
-            }
-        }
-        if (outstandingPersonList.isEmpty()) {
-            return new CommandResult("No outstanding payments found.");
+        int outstandingCount = page.getOffset();
+        for (Person p : outstandingPersonList) {
+            outstandingCount++;
+            outstandingPayments.append(outstandingCount).append(":").append("\n");
+            outstandingPayments.append(p.getName()).append("\n");
+            outstandingPayments.append(p.getEmail()).append("\n");
+            outstandingPayments.append(p.getPhone()).append("\n");
+            outstandingPayments.append(p.getFinance().get()).append("\n");
         }
 
         return new CommandResult(outstandingPayments.toString(), false, false, true);
@@ -55,12 +72,29 @@ public class ViewOutstandingPaymentsCommand extends Command {
 
     @Override
     public boolean equals(Object other) {
-        // Stateless command: any two instances are considered equal
-        return other == this || (other != null && other.getClass() == this.getClass());
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ViewOutstandingPaymentsCommand)) {
+            return false;
+        }
+
+        ViewOutstandingPaymentsCommand otherCommand = (ViewOutstandingPaymentsCommand) other;
+        return page.equals(otherCommand.page) && largestFirst == otherCommand.largestFirst;
     }
 
     @Override
     public int hashCode() {
-        return COMMAND_WORD.hashCode();
+        return 31 * page.hashCode() + Boolean.hashCode(largestFirst);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("page", page)
+                .add("largestFirst", largestFirst)
+                .toString();
     }
 }
@@ -16,5 +16,8 @@ public class CliSyntax {
     public static final Prefix PREFIX_TIME = new Prefix("t/");
     public static final Prefix PREFIX_LOCATION = new Prefix("loc/");
     public static final Prefix PREFIX_STATUS = new Prefix("s/");
+    public static final Prefix PREFIX_OFFSET = new Prefix("offset/");
+    public static final Prefix PREFIX_LIMIT = new Prefix("limit/");
+    public static final Prefix PREFIX_TOP = new Prefix("top/");
 
 }
@@ -1,11 +1,14 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OFFSET;
 
 import java.util.Arrays;
 
 import seedu.address.logic.commands.FindTagCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Page;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
 
 /**
@@ -19,7 +22,9 @@ public class FindTagCommandParser implements Parser<FindTagCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindTagCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_OFFSET, PREFIX_LIMIT);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_OFFSET, PREFIX_LIMIT);
+        String trimmedArgs = argMultimap.getPreamble().trim();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindTagCommand.MESSAGE_USAGE));
@@ -27,7 +32,8 @@ public class FindTagCommandParser implements Parser<FindTagCommand> {
 
         String[] nameKeywords = trimmedArgs.split("\\s+");
 
-        return new FindTagCommand(new TagContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        Page page = ParserUtil.parsePage(argMultimap.getValue(PREFIX_OFFSET), argMultimap.getValue(PREFIX_LIMIT));
+        return new FindTagCommand(new TagContainsKeywordsPredicate(Arrays.asList(nameKeywords)), page);
     }
 
 }
@@ -4,11 +4,13 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Page;
 import seedu.address.model.finance.Finance;
 import seedu.address.model.finance.FinanceAmount;
 import seedu.address.model.lesson.Attendance;
@@ -30,6 +32,8 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_OFFSET = "Offset is not an unsigned integer.";
+    public static final String MESSAGE_INVALID_LIMIT = "Limit is not a non-zero unsigned integer.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -44,6 +48,33 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses the optional {@code offset} and {@code limit} arguments into a {@code Page}. A missing offset starts
+     * at the first item and a missing limit leaves the page unbounded.
+     * @throws ParseException if the offset is not an unsigned integer or the limit not a non-zero one.
+     */
+    public static Page parsePage(Optional<String> offset, Optional<String> limit) throws ParseException {
+        requireNonNull(offset);
+        requireNonNull(limit);
+        int parsedOffset = 0;
+        if (offset.isPresent()) {
+            String trimmedOffset = offset.get().trim();
+            if (!trimmedOffset.equals("0") && !StringUtil.isNonZeroUnsignedInteger(trimmedOffset)) {
+                throw new ParseException(MESSAGE_INVALID_OFFSET);
+            }
+            parsedOffset = Integer.parseInt(trimmedOffset);
+        }
+        int parsedLimit = Page.NO_LIMIT;
+        if (limit.isPresent()) {
+            String trimmedLimit = limit.get().trim();
+            if (!StringUtil.isNonZeroUnsignedInteger(trimmedLimit)) {
+                throw new ParseException(MESSAGE_INVALID_LIMIT);
+            }
+            parsedLimit = Integer.parseInt(trimmedLimit);
+        }
+        return new Page(parsedOffset, parsedLimit);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -116,7 +147,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -168,7 +199,7 @@ public class ParserUtil {
         if (!LessonName.isValidLessonName(trimmedLessonName)) {
             throw new ParseException(LessonName.MESSAGE_CONSTRAINTS);
         }
-        return new LessonName(trimmedLessonName);
+        return LessonName.of(trimmedLessonName);
     }
 
     /**
@@ -183,7 +214,7 @@ public class ParserUtil {
         if (!Date.isValidDate(trimmedDate)) {
             throw new ParseException(Date.MESSAGE_CONSTRAINTS);
         }
-        return new Date(trimmedDate);
+        return Date.of(trimmedDate);
     }
 
     /**
@@ -213,7 +244,7 @@ public class ParserUtil {
         if (!Location.isValidLocation(trimmedLocation)) {
             throw new ParseException(Location.MESSAGE_CONSTRAINTS);
         }
-        return new Location(trimmedLocation);
+        return Location.of(trimmedLocation);
     }
 
     /**
@@ -2,9 +2,13 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OFFSET;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP;
 
 import seedu.address.logic.commands.ViewOutstandingPaymentsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Page;
 
 /**
  * Parser for the ViewOutstandingPaymentsCommand.
@@ -13,6 +17,7 @@ public class ViewOutstandingPaymentsCommandParser implements Parser<ViewOutstand
 
     /**
      * Parses the given {@code args} into a ViewOutstandingPaymentsCommand.
+     * {@code top/COUNT} shows the COUNT largest debts; {@code offset/} and {@code limit/} select a page.
      *
      * @param args the arguments to parse
      * @return the parsed ViewOutstandingPaymentsCommand
@@ -20,10 +25,18 @@ public class ViewOutstandingPaymentsCommandParser implements Parser<ViewOutstand
      */
     public ViewOutstandingPaymentsCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        if (!args.trim().isEmpty()) {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TOP, PREFIX_OFFSET, PREFIX_LIMIT);
+        if (!argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     ViewOutstandingPaymentsCommand.MESSAGE_USAGE));
         }
-        return new ViewOutstandingPaymentsCommand();
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_TOP, PREFIX_OFFSET, PREFIX_LIMIT);
+        boolean largestFirst = argMultimap.getValue(PREFIX_TOP).isPresent();
+        if (largestFirst && argMultimap.getValue(PREFIX_LIMIT).isPresent()) {
+            throw new ParseException(ViewOutstandingPaymentsCommand.MESSAGE_TOP_AND_LIMIT);
+        }
+        Page page = ParserUtil.parsePage(argMultimap.getValue(PREFIX_OFFSET),
+                largestFirst ? argMultimap.getValue(PREFIX_TOP) : argMultimap.getValue(PREFIX_LIMIT));
+        return new ViewOutstandingPaymentsCommand(page, largestFirst);
     }
 }
@@ -1,21 +1,65 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.AnalyticsSnapshot;
+import seedu.address.model.person.NameIndex;
+import seedu.address.model.person.NameTokenIndex;
+import seedu.address.model.person.OutstandingBalanceIndex;
+import seedu.address.model.person.PaymentLedger;
+import seedu.address.model.person.PaymentRecord;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumns;
+import seedu.address.model.person.TagIndex;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.WeeklyScheduleIndex;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * Every stored person carries an ID unique within the address book. Persons added without an ID, or with one that is
+ * already taken, are stored as a copy with the next unused ID; IDs are never handed out twice, even after an undo.
+ * Indexes over person names, name tokens, tags, outstanding balances, lesson days and payments are maintained on
+ * every mutation, as are a columnar copy of the figures reports aggregate and a persistent copy of the person list
+ * from which versions are committed in O(1).
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final NameIndex nameIndex;
+    private final NameTokenIndex nameTokenIndex;
+    private final TagIndex tagIndex;
+    private final OutstandingBalanceIndex outstandingBalanceIndex;
+    private final WeeklyScheduleIndex weeklyScheduleIndex;
+    private final PaymentLedger paymentLedger;
+    private final PersonColumns personColumns;
+    private final Map<Long, Person> personsById = new HashMap<>();
+    /** The smallest ID greater than every ID seen so far. */
+    private long nextId = 1;
+
+    /** The person list as a persistent list, sharing structure with previously committed versions. */
+    private PersistentList<Person> personSnapshot = PersistentList.empty();
+    /** Estimated number of snapshot nodes created since the last commit. */
+    private long nodesSinceCommit;
+    /** Incremented by every change to the persons, so readers can tell whether anything changed since they looked. */
+    private long modificationCount;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +70,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        nameIndex = new NameIndex(persons::indexOf);
+        nameTokenIndex = new NameTokenIndex();
+        tagIndex = new TagIndex();
+        outstandingBalanceIndex = new OutstandingBalanceIndex();
+        weeklyScheduleIndex = new WeeklyScheduleIndex();
+        paymentLedger = new PaymentLedger();
+        personColumns = new PersonColumns();
     }
 
     public AddressBook() {}
@@ -45,7 +96,69 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
+        List<Person> identifiedPersons = withUniqueIds(persons);
+        replaceAllPersons(identifiedPersons);
+        personSnapshot = PersistentList.copyOf(identifiedPersons);
+        nodesSinceCommit += identifiedPersons.size();
+        modificationCount++;
+    }
+
+    /**
+     * Returns {@code persons} with every missing or repeated ID replaced by a fresh one.
+     * The first person to carry an ID keeps it.
+     */
+    private List<Person> withUniqueIds(List<Person> persons) {
+        Set<Long> takenIds = new HashSet<>();
+        for (Person person : persons) {
+            if (person.hasId()) {
+                takenIds.add(person.getId());
+                nextId = Math.max(nextId, person.getId() + 1);
+            }
+        }
+        List<Person> identifiedPersons = new ArrayList<>(persons.size());
+        Set<Long> usedIds = new HashSet<>();
+        for (Person person : persons) {
+            if (person.hasId() && usedIds.add(person.getId())) {
+                identifiedPersons.add(person);
+            } else {
+                long id = takeFreshId(takenIds);
+                takenIds.add(id);
+                usedIds.add(id);
+                identifiedPersons.add(person.withId(id));
+            }
+        }
+        return identifiedPersons;
+    }
+
+    /**
+     * Returns an ID outside {@code takenIds}, preferring one greater than every ID seen so far.
+     */
+    private long takeFreshId(Set<Long> takenIds) {
+        if (nextId <= Person.MAX_ID) {
+            return nextId++;
+        }
+        // every ID above the largest one seen has run out, so a free lower ID is reused instead
+        long id = 1;
+        while (takenIds.contains(id)) {
+            id++;
+        }
+        return id;
+    }
+
+    /**
+     * Replaces the person list and every index with {@code persons}, leaving the snapshot untouched.
+     */
+    private void replaceAllPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        personsById.clear();
+        persons.forEach(person -> personsById.put(person.getId(), person));
+        nameIndex.setPersons(persons);
+        nameTokenIndex.setPersons(persons);
+        tagIndex.setPersons(persons);
+        outstandingBalanceIndex.setPersons(persons);
+        weeklyScheduleIndex.setPersons(persons);
+        paymentLedger.setPersons(persons);
+        personColumns.setPersons(persons);
     }
 
     /**
@@ -71,8 +184,22 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
-    public void addPerson(Person p) {
+    public void addPerson(Person toAdd) {
+        Person p = toAdd.hasId() && !personsById.containsKey(toAdd.getId())
+                ? toAdd
+                : toAdd.withId(takeFreshId(personsById.keySet()));
         persons.add(p);
+        nextId = Math.max(nextId, p.getId() + 1);
+        personsById.put(p.getId(), p);
+        recordSnapshot(personSnapshot.append(p));
+        nameIndex.add(p);
+        nameTokenIndex.add(p);
+        tagIndex.add(p);
+        outstandingBalanceIndex.add(p);
+        weeklyScheduleIndex.add(p);
+        paymentLedger.add(p);
+        personColumns.add(p);
+        modificationCount++;
     }
 
     /**
@@ -83,7 +210,21 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        // the indexes hold the stored instance, whose ID the edited person inherits
+        Person storedTarget = getStoredPerson(target);
+        Person storedPerson = editedPerson.withId(storedTarget.getId());
+        int index = persons.indexOf(storedTarget);
+        persons.setPerson(storedTarget, storedPerson);
+        personsById.put(storedPerson.getId(), storedPerson);
+        recordSnapshot(personSnapshot.set(index, storedPerson));
+        nameIndex.replace(storedTarget, storedPerson);
+        nameTokenIndex.replace(storedTarget, storedPerson);
+        tagIndex.replace(storedTarget, storedPerson);
+        outstandingBalanceIndex.replace(storedTarget, storedPerson);
+        weeklyScheduleIndex.replace(storedTarget, storedPerson);
+        paymentLedger.replace(storedTarget, storedPerson);
+        personColumns.replace(storedTarget, storedPerson);
+        modificationCount++;
     }
 
     /**
@@ -91,7 +232,212 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        Person storedKey = getStoredPerson(key);
+        int index = persons.indexOf(storedKey);
+        persons.remove(storedKey);
+        personsById.remove(storedKey.getId());
+        recordSnapshot(personSnapshot.remove(index));
+        nameIndex.remove(storedKey);
+        nameTokenIndex.remove(storedKey);
+        tagIndex.remove(storedKey);
+        outstandingBalanceIndex.remove(storedKey);
+        weeklyScheduleIndex.remove(storedKey);
+        paymentLedger.remove(storedKey);
+        personColumns.remove(storedKey);
+        modificationCount++;
+    }
+
+    /**
+     * Returns the stored person equal to {@code person}.
+     *
+     * @throws PersonNotFoundException if no stored person is equal to {@code person}.
+     */
+    private Person getStoredPerson(Person person) {
+        requireNonNull(person);
+        int index = persons.indexOf(person);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
+        return persons.get(index);
+    }
+
+    /**
+     * Returns a count that increases whenever the persons in this address book change, and never decreases.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns a read-only copy of the persons as they are now, unaffected by later changes to this address book.
+     * Taking the copy is O(1); its person list is only built when first asked for, so that cost falls on the reader.
+     */
+    public ReadOnlyAddressBook snapshot() {
+        PersistentList<Person> snapshotPersons = personSnapshot;
+        return new ReadOnlyAddressBook() {
+            private ObservableList<Person> personList;
+
+            @Override
+            public synchronized ObservableList<Person> getPersonList() {
+                if (personList == null) {
+                    personList = FXCollections.unmodifiableObservableList(
+                            FXCollections.observableList(snapshotPersons.toList()));
+                }
+                return personList;
+            }
+        };
+    }
+
+    //// ID-keyed operations
+
+    /**
+     * Returns the person with the given ID, if any.
+     */
+    public Optional<Person> getPersonById(long id) {
+        return Optional.ofNullable(personsById.get(id));
+    }
+
+    /**
+     * Replaces the person with the given ID with {@code editedPerson}, which takes over the ID.
+     *
+     * @throws PersonNotFoundException if no person has the given ID.
+     */
+    public void setPersonById(long id, Person editedPerson) {
+        setPerson(getPersonWithId(id), editedPerson);
+    }
+
+    /**
+     * Removes the person with the given ID.
+     *
+     * @throws PersonNotFoundException if no person has the given ID.
+     */
+    public void removePersonById(long id) {
+        removePerson(getPersonWithId(id));
+    }
+
+    private Person getPersonWithId(long id) {
+        Person person = personsById.get(id);
+        if (person == null) {
+            throw new PersonNotFoundException();
+        }
+        return person;
+    }
+
+    /**
+     * Returns the first person whose full name matches {@code name}, ignoring case and surrounding spaces.
+     */
+    public Optional<Person> findPersonByName(String name) {
+        requireNonNull(name);
+        return nameIndex.findFirst(name);
+    }
+
+    /**
+     * Returns the persons whose full name starts with {@code prefix}, ignoring case, ordered by name.
+     */
+    public List<Person> findPersonsByNamePrefix(String prefix) {
+        requireNonNull(prefix);
+        return nameIndex.findByPrefix(prefix);
+    }
+
+    /**
+     * Returns the persons whose name contains any of {@code keywords} as a whole word, ignoring case.
+     */
+    public Set<Person> findPersonsByNameKeywords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return nameTokenIndex.findAny(keywords);
+    }
+
+    /**
+     * Returns the persons with a tag containing any of {@code keywords}, ignoring case.
+     */
+    public Set<Person> findPersonsByTagKeywords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return tagIndex.findAny(keywords);
+    }
+
+    /**
+     * Returns up to {@code limit} persons who owe a non-zero amount, in the order they appear in the person list,
+     * skipping the first {@code offset} of them.
+     * The person list is walked only until the page is full.
+     */
+    public List<Person> getOutstandingPersons(int offset, int limit) {
+        checkArgument(offset >= 0 && limit >= 0, "Offset and limit must be non-negative.");
+        Set<Person> debtors = outstandingBalanceIndex.getDebtors();
+        List<Person> outstandingPersons = new ArrayList<>(Math.min(limit, debtors.size()));
+        int toSkip = offset;
+        for (Person person : persons) {
+            if (outstandingPersons.size() == limit) {
+                break;
+            }
+            if (!debtors.contains(person)) {
+                continue;
+            }
+            if (toSkip > 0) {
+                toSkip--;
+            } else {
+                outstandingPersons.add(person);
+            }
+        }
+        return outstandingPersons;
+    }
+
+    /**
+     * Returns up to {@code count} persons owing the largest amounts, largest first, skipping the {@code offset}
+     * largest.
+     */
+    public List<Person> getTopDebtors(int offset, int count) {
+        return outstandingBalanceIndex.getTopDebtors(offset, count);
+    }
+
+    /**
+     * Returns the persons owing between {@code minCents} and {@code maxCents} cents inclusive, smallest amount first.
+     */
+    public List<Person> getDebtorsOwingBetween(long minCents, long maxCents) {
+        return outstandingBalanceIndex.getDebtorsOwingBetween(minCents, maxCents);
+    }
+
+    /**
+     * Returns the total amount owed across all persons, in cents.
+     */
+    public long getTotalOwedCents() {
+        return outstandingBalanceIndex.getTotalOwedCents();
+    }
+
+    /**
+     * Returns true if any person has a lesson.
+     */
+    public boolean hasLessons() {
+        return !weeklyScheduleIndex.isEmpty();
+    }
+
+    /**
+     * Returns the persons with a lesson on {@code day}, ordered by the lesson's start time.
+     */
+    public List<Person> getPersonsWithLessonsOn(DayOfWeek day) {
+        requireNonNull(day);
+        return weeklyScheduleIndex.getPersonsOn(day);
+    }
+
+    /**
+     * Returns every recorded payment, newest first.
+     */
+    public Iterable<PaymentRecord> getPaymentsNewestFirst() {
+        return paymentLedger.newestFirst();
+    }
+
+    /**
+     * Returns the payments made from {@code start} to {@code end} inclusive, newest first.
+     */
+    public Iterable<PaymentRecord> getPaymentsBetween(LocalDate start, LocalDate end) {
+        return paymentLedger.between(start, end);
+    }
+
+    /**
+     * Returns a read-only columnar snapshot of the figures aggregate reports need.
+     * The snapshot is unaffected by later changes to this address book.
+     */
+    public AnalyticsSnapshot getAnalyticsSnapshot() {
+        return personColumns.snapshot();
     }
 
     //// util methods
@@ -128,7 +474,34 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.hashCode();
     }
 
-    public void commit() {
-        // No-op: placeholder for compatibility
+    /**
+     * Returns the current state of this address book as a version that can later be restored.
+     * The version shares structure with earlier versions, so committing after a single-person change costs
+     * O(log n) memory.
+     */
+    AddressBookVersion commit() {
+        AddressBookVersion version = new AddressBookVersion(personSnapshot, nodesSinceCommit);
+        nodesSinceCommit = 0;
+        return version;
+    }
+
+    /**
+     * Restores this address book to the state recorded in {@code version}.
+     */
+    void restore(AddressBookVersion version) {
+        requireNonNull(version);
+        replaceAllPersons(version.getPersons().toList());
+        personSnapshot = version.getPersons();
+        nodesSinceCommit = 0;
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the snapshot with {@code updatedSnapshot}, which differs from it by a single update.
+     */
+    private void recordSnapshot(PersistentList<Person> updatedSnapshot) {
+        personSnapshot = updatedSnapshot;
+        // a single update copies at most one root-to-leaf path, plus a few nodes when rebalancing
+        nodesSinceCommit += updatedSnapshot.height() + 2;
     }
 }
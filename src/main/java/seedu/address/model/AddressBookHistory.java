@@ -0,0 +1,104 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The committed versions of an address book, with a pointer to the current one for undo and redo.
+ * The oldest versions are discarded once there are more undoable versions than the maximum depth, or once the
+ * memory they are estimated to retain exceeds the memory budget.
+ */
+class AddressBookHistory {
+
+    private final List<AddressBookVersion> versions = new ArrayList<>();
+    private int current = -1;
+    private int maxDepth;
+    private long memoryBudget;
+    /** Estimated bytes retained by every version except the oldest, which is the base the others build on. */
+    private long retainedBytes;
+
+    /**
+     * Constructs an empty history keeping at most {@code maxDepth} undoable versions within {@code memoryBudget}
+     * bytes.
+     */
+    AddressBookHistory(int maxDepth, long memoryBudget) {
+        setLimits(maxDepth, memoryBudget);
+    }
+
+    /**
+     * Changes the maximum depth and memory budget, discarding old versions that no longer fit.
+     */
+    void setLimits(int maxDepth, long memoryBudget) {
+        checkArgument(maxDepth >= 0, "Undo history depth must be non-negative.");
+        checkArgument(memoryBudget >= 0, "Undo history memory budget must be non-negative.");
+        this.maxDepth = maxDepth;
+        this.memoryBudget = memoryBudget;
+        discardOldVersions();
+    }
+
+    /**
+     * Records {@code version} as the current version, discarding any versions that could have been redone.
+     */
+    void commit(AddressBookVersion version) {
+        requireNonNull(version);
+        while (versions.size() > current + 1) {
+            discardNewestVersion();
+        }
+        versions.add(version);
+        current++;
+        if (current > 0) {
+            retainedBytes += version.getEstimatedBytes();
+        }
+        discardOldVersions();
+    }
+
+    boolean canUndo() {
+        return current > 0;
+    }
+
+    boolean canRedo() {
+        return current < versions.size() - 1;
+    }
+
+    /**
+     * Moves back to the previous version and returns it.
+     */
+    AddressBookVersion undo() {
+        checkArgument(canUndo(), "No version to undo to.");
+        return versions.get(--current);
+    }
+
+    /**
+     * Moves forward to the next version and returns it.
+     */
+    AddressBookVersion redo() {
+        checkArgument(canRedo(), "No version to redo to.");
+        return versions.get(++current);
+    }
+
+    /**
+     * Returns the number of versions held, including the current one.
+     */
+    int size() {
+        return versions.size();
+    }
+
+    private void discardNewestVersion() {
+        AddressBookVersion discarded = versions.remove(versions.size() - 1);
+        if (!versions.isEmpty()) {
+            retainedBytes -= discarded.getEstimatedBytes();
+        }
+    }
+
+    private void discardOldVersions() {
+        while (current > 0 && (versions.size() - 1 > maxDepth || retainedBytes > memoryBudget)) {
+            versions.remove(0);
+            current--;
+            // the new oldest version becomes the base, so its changes are no longer counted
+            retainedBytes -= versions.get(0).getEstimatedBytes();
+        }
+    }
+}
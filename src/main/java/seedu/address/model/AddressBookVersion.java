@@ -0,0 +1,39 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.person.Person;
+
+/**
+ * A committed state of an {@code AddressBook}.
+ * Versions share structure with one another, so each holds only the changes made since the version before it.
+ */
+class AddressBookVersion {
+
+    /** Approximate size in bytes of one node of a {@code PersistentList}. */
+    static final long BYTES_PER_NODE = 32;
+
+    private final PersistentList<Person> persons;
+    private final long estimatedBytes;
+
+    /**
+     * Constructs a version of {@code persons}, created by allocating about {@code newNodes} new list nodes.
+     */
+    AddressBookVersion(PersistentList<Person> persons, long newNodes) {
+        requireNonNull(persons);
+        this.persons = persons;
+        this.estimatedBytes = newNodes * BYTES_PER_NODE;
+    }
+
+    PersistentList<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns the estimated memory used by this version beyond what it shares with the version before it.
+     */
+    long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+}
@@ -1,11 +1,19 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.AnalyticsSnapshot;
+import seedu.address.model.person.PaymentRecord;
 import seedu.address.model.person.Person;
 
 /**
@@ -53,6 +61,17 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a count that increases whenever the address book changes, including through undo and redo.
+     * Equal counts mean the address book has not changed in between.
+     */
+    long getAddressBookModificationCount();
+
+    /**
+     * Returns a read-only copy of the address book as it is now, unaffected by later changes.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -77,6 +96,27 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the person with the given ID, if any.
+     *
+     * @param id The ID the address book assigned to the person.
+     * @return The person with that ID.
+     */
+    Optional<Person> getPersonById(long id);
+
+    /**
+     * Replaces the person with the given ID with {@code editedPerson}, which keeps the ID.
+     * A person with that ID must exist in the address book.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     */
+    void setPersonById(long id, Person editedPerson);
+
+    /**
+     * Deletes the person with the given ID.
+     * A person with that ID must exist in the address book.
+     */
+    void deletePersonById(long id);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -86,11 +126,50 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Sorts the filtered person list by the given {@code comparator}, or restores the address book's order if it is
+     * null. The order is kept as persons are added, edited or filtered.
+     */
+    void sortFilteredPersonList(Comparator<Person> comparator);
+
+    /**
+     * Shows only {@code page} of the filtered, sorted person list. Changing the filter shows the whole list again;
+     * re-applying the current one keeps the page.
+     */
+    void setFilteredPersonListPage(Page page);
+
+    /**
+     * Returns the number of persons in the filtered person list, counting those outside the current page.
+     */
+    int getMatchingPersonCount();
+
     /**
      * Commits the current state of the address book for undo/redo tracking.
      */
     void commitAddressBook();
 
+    /**
+     * Returns true if there is a committed address book state to undo to.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone address book state to redo.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the address book to its previous committed state.
+     * There must be a state to undo to.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the address book to the state most recently undone.
+     * There must be a state to redo.
+     */
+    void redoAddressBook();
+
     /**
      * Finds a person by their name (case-insensitive).
      *
@@ -98,4 +177,91 @@ public interface Model {
      * @return An Optional containing the matching Person if found, otherwise an empty Optional.
      */
     Optional<Person> findPersonByName(String name);
+
+    /**
+     * Finds all persons whose name starts with the given prefix (case-insensitive).
+     *
+     * @param prefix The start of the names to search for.
+     * @return The matching persons, ordered by name.
+     */
+    List<Person> findPersonsByNamePrefix(String prefix);
+
+    /**
+     * Finds all persons whose name contains any of the given keywords as a whole word (case-insensitive).
+     * The returned set compares persons by reference and is intended for membership tests against the person list.
+     *
+     * @param keywords The keywords to search for.
+     * @return The matching persons.
+     */
+    Set<Person> findPersonsByNameKeywords(Collection<String> keywords);
+
+    /**
+     * Finds all persons with a tag containing any of the given keywords (case-insensitive, partial match).
+     * The returned set compares persons by reference and is intended for membership tests against the person list.
+     *
+     * @param keywords The keywords to search for.
+     * @return The matching persons.
+     */
+    Set<Person> findPersonsByTagKeywords(Collection<String> keywords);
+
+    /**
+     * Returns the given page of the persons who owe a non-zero amount, in the order they appear in the address book.
+     */
+    List<Person> getOutstandingPersons(Page page);
+
+    /**
+     * Returns the given page of the persons owing a non-zero amount, largest amount first.
+     *
+     * @param page The ranks to return, e.g. offset 0 and limit 20 for the 20 largest debts.
+     * @return The persons owing the most.
+     */
+    List<Person> getTopDebtors(Page page);
+
+    /**
+     * Returns the persons owing between the given amounts (inclusive), smallest amount first.
+     *
+     * @param minCents The smallest amount owed, in cents.
+     * @param maxCents The largest amount owed, in cents.
+     * @return The persons owing an amount in range.
+     */
+    List<Person> getDebtorsOwingBetween(long minCents, long maxCents);
+
+    /**
+     * Returns the total amount owed across all persons, in cents.
+     */
+    long getTotalOwedCents();
+
+    /**
+     * Returns true if any person in the address book has a lesson.
+     */
+    boolean hasLessons();
+
+    /**
+     * Returns the persons with a lesson on the given day, ordered by the lesson's start time.
+     *
+     * @param day The day of the week.
+     * @return The persons with a lesson on that day.
+     */
+    List<Person> getPersonsWithLessonsOn(DayOfWeek day);
+
+    /**
+     * Returns every payment recorded in the address book, newest first.
+     * Payments are produced lazily as the result is iterated.
+     */
+    Iterable<PaymentRecord> getPaymentsNewestFirst();
+
+    /**
+     * Returns the payments made between the given dates (inclusive), newest first.
+     *
+     * @param start The earliest payment date.
+     * @param end The latest payment date.
+     * @return The payments made in that period.
+     */
+    Iterable<PaymentRecord> getPaymentsBetween(LocalDate start, LocalDate end);
+
+    /**
+     * Returns a read-only columnar snapshot of the address book for aggregate reports.
+     * The snapshot is not affected by later changes to the address book.
+     */
+    AnalyticsSnapshot getAnalyticsSnapshot();
 }
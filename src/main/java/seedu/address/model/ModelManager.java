@@ -4,15 +4,26 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.AnalyticsSnapshot;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PaymentRecord;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -22,7 +33,11 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
+    private final PredicateCache predicateCache;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
+    private final PagedList<Person> pagedPersons;
+    private final AddressBookHistory history;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -34,7 +49,13 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        // the cache must see list changes before the filtered list does
+        predicateCache = new PredicateCache(this.addressBook.getPersonList(), this::findMatchesByIndex);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
+        pagedPersons = new PagedList<>(sortedPersons);
+        history = new AddressBookHistory(userPrefs.getUndoHistoryDepth(), userPrefs.getUndoHistoryMemoryBudget());
+        history.commit(this.addressBook.commit());
     }
 
     public ModelManager() {
@@ -47,6 +68,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        history.setLimits(userPrefs.getUndoHistoryDepth(), userPrefs.getUndoHistoryMemoryBudget());
     }
 
     @Override
@@ -88,6 +110,16 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookModificationCount() {
+        return addressBook.getModificationCount();
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return addressBook.snapshot();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -112,34 +144,179 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public Optional<Person> getPersonById(long id) {
+        return addressBook.getPersonById(id);
+    }
+
+    @Override
+    public void setPersonById(long id, Person editedPerson) {
+        requireNonNull(editedPerson);
+
+        addressBook.setPersonById(id, editedPerson);
+    }
+
+    @Override
+    public void deletePersonById(long id) {
+        addressBook.removePersonById(id);
+    }
+
     @Override
     public void commitAddressBook() {
-        addressBook.commit();
+        history.commit(addressBook.commit());
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        addressBook.restore(history.undo());
+    }
+
+    @Override
+    public void redoAddressBook() {
+        addressBook.restore(history.redo());
     }
 
     @Override
     public Optional<Person> findPersonByName(String name) {
-        String trimmed = name.trim();
-        return addressBook.getPersonList().stream()
-                .filter(p -> p.getName().fullName.equalsIgnoreCase(trimmed))
-                .findFirst();
+        requireNonNull(name);
+        return addressBook.findPersonByName(name);
+    }
+
+    @Override
+    public List<Person> findPersonsByNamePrefix(String prefix) {
+        requireNonNull(prefix);
+        return addressBook.findPersonsByNamePrefix(prefix);
+    }
+
+    @Override
+    public Set<Person> findPersonsByNameKeywords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.findPersonsByNameKeywords(keywords);
+    }
+
+    @Override
+    public Set<Person> findPersonsByTagKeywords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.findPersonsByTagKeywords(keywords);
+    }
+
+    @Override
+    public List<Person> getOutstandingPersons(Page page) {
+        requireNonNull(page);
+        return addressBook.getOutstandingPersons(page.getOffset(), page.getLimit());
+    }
+
+    @Override
+    public List<Person> getTopDebtors(Page page) {
+        requireNonNull(page);
+        return addressBook.getTopDebtors(page.getOffset(), page.getLimit());
+    }
+
+    @Override
+    public List<Person> getDebtorsOwingBetween(long minCents, long maxCents) {
+        return addressBook.getDebtorsOwingBetween(minCents, maxCents);
+    }
+
+    @Override
+    public long getTotalOwedCents() {
+        return addressBook.getTotalOwedCents();
+    }
+
+    @Override
+    public boolean hasLessons() {
+        return addressBook.hasLessons();
+    }
+
+    @Override
+    public List<Person> getPersonsWithLessonsOn(DayOfWeek day) {
+        requireNonNull(day);
+        return addressBook.getPersonsWithLessonsOn(day);
+    }
+
+    @Override
+    public Iterable<PaymentRecord> getPaymentsNewestFirst() {
+        return addressBook.getPaymentsNewestFirst();
+    }
+
+    @Override
+    public Iterable<PaymentRecord> getPaymentsBetween(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        return addressBook.getPaymentsBetween(start, end);
+    }
+
+    @Override
+    public AnalyticsSnapshot getAnalyticsSnapshot() {
+        return addressBook.getAnalyticsSnapshot();
     }
 
     //=========== Filtered Person List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, filtered, sorted and then paged.
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return pagedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        Predicate<Person> filter = predicate;
+        if (predicate == PREDICATE_SHOW_ALL_PERSONS) {
+            predicateCache.clearCurrent();
+        } else {
+            filter = predicateCache.cache(predicate);
+        }
+        // Re-applying the current filter, e.g. to show another page of the same results, leaves the list and its page
+        // as they are; a new filter shows its results from the start
+        if (filter != filteredPersons.getPredicate()) {
+            pagedPersons.setPage(Page.ALL);
+            filteredPersons.setPredicate(filter);
+        }
+    }
+
+    @Override
+    public void setFilteredPersonListPage(Page page) {
+        requireNonNull(page);
+        pagedPersons.setPage(page);
+    }
+
+    @Override
+    public int getMatchingPersonCount() {
+        return sortedPersons.size();
+    }
+
+    @Override
+    public void sortFilteredPersonList(Comparator<Person> comparator) {
+        // The sorted list keeps its order as the filtered list changes: an edited person is moved to their new
+        // position by a binary search rather than re-sorting the whole list
+        sortedPersons.setComparator(comparator);
+    }
+
+    /**
+     * Returns the persons matching {@code predicate} as resolved by the address book's indexes, or null if no index
+     * answers that kind of predicate.
+     */
+    private Set<Person> findMatchesByIndex(Predicate<Person> predicate) {
+        if (predicate instanceof NameContainsKeywordsPredicate namePredicate) {
+            return addressBook.findPersonsByNameKeywords(namePredicate.getKeywords());
+        }
+        if (predicate instanceof TagContainsKeywordsPredicate tagPredicate) {
+            return addressBook.findPersonsByTagKeywords(tagPredicate.getKeywords());
+        }
+        return null;
     }
 
     @Override
@@ -0,0 +1,82 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A window into a list: the persons at positions {@code offset} up to, but excluding, {@code offset + limit}.
+ * Guarantees: immutable; offset is non-negative and limit is positive.
+ */
+public final class Page {
+
+    /** The limit of a page with no upper bound. */
+    public static final int NO_LIMIT = Integer.MAX_VALUE;
+
+    /** The page holding the whole list. */
+    public static final Page ALL = new Page(0, NO_LIMIT);
+
+    public static final String MESSAGE_CONSTRAINTS = "Offset must be non-negative and limit must be positive.";
+
+    private final int offset;
+    private final int limit;
+
+    /**
+     * Creates a page of at most {@code limit} items starting at position {@code offset}.
+     */
+    public Page(int offset, int limit) {
+        checkArgument(offset >= 0 && limit > 0, MESSAGE_CONSTRAINTS);
+        this.offset = offset;
+        this.limit = limit;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns true if this page is the whole list.
+     */
+    public boolean isAll() {
+        return offset == 0 && limit == NO_LIMIT;
+    }
+
+    /**
+     * Returns the number of items this page holds of a list of {@code listSize} items.
+     */
+    public int sizeOf(int listSize) {
+        return (int) Math.max(0, Math.min((long) listSize - offset, limit));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Page)) {
+            return false;
+        }
+
+        Page otherPage = (Page) other;
+        return offset == otherPage.offset && limit == otherPage.limit;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * offset + limit;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("offset", offset)
+                .add("limit", limit)
+                .toString();
+    }
+}
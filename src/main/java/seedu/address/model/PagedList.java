@@ -0,0 +1,122 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of one {@link Page} of its source list. Moving to another page only changes which source positions are
+ * read, so paging never filters or sorts the source again.
+ * While the whole source is shown, source changes are passed on as they are; otherwise the page reports its old
+ * contents as replaced by its new ones, which costs at most the page size.
+ */
+class PagedList<E> extends TransformationList<E, E> {
+
+    private Page page = Page.ALL;
+    /**
+     * A copy of what the page showed after the last change, kept only while the page is not the whole list, so it
+     * costs at most the page size.
+     */
+    private List<E> shown = List.of();
+
+    PagedList(ObservableList<E> source) {
+        super(source);
+    }
+
+    Page getPage() {
+        return page;
+    }
+
+    /**
+     * Shows {@code page} of the source list.
+     */
+    void setPage(Page page) {
+        requireNonNull(page);
+        if (page.equals(this.page)) {
+            return;
+        }
+        // the source does not change while the page moves, so the old page can be reported as a view of it
+        int oldSize = size();
+        List<? extends E> oldContents = oldSize == 0 ? List.of()
+                : getSource().subList(this.page.getOffset(), this.page.getOffset() + oldSize);
+        this.page = page;
+        shown = page.isAll() ? List.of() : new ArrayList<>(this);
+        fireReplaced(oldContents, size());
+    }
+
+    @Override
+    public E get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return page.sizeOf(getSource().size());
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        Objects.checkIndex(index, size());
+        return page.getOffset() + index;
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        int viewIndex = index - page.getOffset();
+        return viewIndex >= 0 && viewIndex < size() ? viewIndex : -1;
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> change) {
+        if (!page.isAll()) {
+            List<E> oldContents = shown;
+            shown = new ArrayList<>(this);
+            fireReplaced(oldContents, shown.size());
+            return;
+        }
+        beginChange();
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            if (change.wasPermutated()) {
+                int[] permutation = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    permutation[i - from] = change.getPermutation(i);
+                }
+                nextPermutation(from, to, permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = from; i < to; i++) {
+                    nextUpdate(i);
+                }
+            } else if (change.wasReplaced()) {
+                nextReplace(from, to, change.getRemoved());
+            } else if (change.wasRemoved()) {
+                nextRemove(from, change.getRemoved());
+            } else {
+                nextAdd(from, to);
+            }
+        }
+        endChange();
+    }
+
+    private void fireReplaced(List<? extends E> oldContents, int newSize) {
+        if (oldContents.isEmpty() && newSize == 0) {
+            return;
+        }
+        beginChange();
+        if (newSize == 0) {
+            nextRemove(0, oldContents);
+        } else if (oldContents.isEmpty()) {
+            nextAdd(0, newSize);
+        } else {
+            nextReplace(0, newSize, oldContents);
+        }
+        endChange();
+    }
+}
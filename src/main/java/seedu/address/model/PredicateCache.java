@@ -0,0 +1,172 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.RefinablePredicate;
+
+/**
+ * Remembers, by person ID, what the most recently used filter predicates returned, so re-applying or narrowing a
+ * filter does not re-test persons whose result is already known.
+ * <ul>
+ *     <li>A predicate equal to a recently used one reuses its remembered results.</li>
+ *     <li>A {@link RefinablePredicate} that narrows the current filter starts out knowing that every person the
+ *     current filter rejected is rejected, so only the current matches are tested.</li>
+ *     <li>Otherwise, results come from {@code indexLookup} when it can resolve the predicate in one go.</li>
+ * </ul>
+ * When a person is replaced or removed, only the results for that person are forgotten, so a filtered list that
+ * re-tests the changed person sees a fresh result.
+ * Results are kept in bitsets indexed by a slot handed to each person ID when it is first tested and freed when the
+ * person leaves the list, so the bitsets stay about as long as the list however large the IDs are.
+ */
+class PredicateCache {
+
+    static final int CAPACITY = 4;
+
+    private final ObservableList<Person> persons;
+    private final Function<Predicate<Person>, Set<Person>> indexLookup;
+    private final Map<Predicate<Person>, CachedPredicate> recent = new LinkedHashMap<>(CAPACITY * 2, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Predicate<Person>, CachedPredicate> eldest) {
+            return size() > CAPACITY;
+        }
+    };
+    private CachedPredicate current;
+
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+
+    /**
+     * Creates a cache over {@code persons}.
+     * Must be created before any filtered list over {@code persons}, so that stale results are forgotten before that
+     * list re-tests a changed person.
+     *
+     * @param indexLookup returns every person matching a predicate, or null if it cannot resolve that predicate.
+     */
+    PredicateCache(ObservableList<Person> persons, Function<Predicate<Person>, Set<Person>> indexLookup) {
+        this.persons = requireNonNull(persons);
+        this.indexLookup = requireNonNull(indexLookup);
+        persons.addListener(this::forgetRemoved);
+    }
+
+    /**
+     * Returns a predicate that tests the same as {@code predicate}, remembering its results.
+     */
+    Predicate<Person> cache(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        CachedPredicate cached = recent.get(predicate);
+        if (cached == null) {
+            cached = new CachedPredicate(predicate);
+            if (current != null && predicate instanceof RefinablePredicate refinable
+                    && refinable.refines(current.predicate)) {
+                cached.rejectAllRejectedBy(current);
+            } else {
+                Set<Person> matches = indexLookup.apply(predicate);
+                if (matches != null) {
+                    cached.recordAll(persons, matches);
+                }
+            }
+            recent.put(predicate, cached);
+        }
+        current = cached;
+        return cached;
+    }
+
+    /**
+     * Forgets the current filter, for when the list is shown unfiltered.
+     */
+    void clearCurrent() {
+        current = null;
+    }
+
+    private void forgetRemoved(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            for (Person removed : change.getRemoved()) {
+                Integer slot = removed.hasId() ? slotsById.remove(removed.getId()) : null;
+                if (slot != null) {
+                    recent.values().forEach(cached -> cached.forget(slot));
+                    freeSlots.push(slot);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the bit used for {@code person}, handing their ID a free one if it has none, or -1 if they have no ID.
+     */
+    private int slotOf(Person person) {
+        if (!person.hasId()) {
+            return -1;
+        }
+        Integer slot = slotsById.get(person.getId());
+        if (slot == null) {
+            slot = freeSlots.isEmpty() ? slotsById.size() : freeSlots.pop();
+            slotsById.put(person.getId(), slot);
+        }
+        return slot;
+    }
+
+    /**
+     * A predicate that remembers its result for each person ID it has tested.
+     */
+    private final class CachedPredicate implements Predicate<Person> {
+        private final Predicate<Person> predicate;
+        private final BitSet tested = new BitSet();
+        private final BitSet matched = new BitSet();
+
+        private CachedPredicate(Predicate<Person> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            int slot = slotOf(person);
+            if (slot < 0) {
+                return predicate.test(person);
+            }
+            if (!tested.get(slot)) {
+                tested.set(slot);
+                matched.set(slot, predicate.test(person));
+            }
+            return matched.get(slot);
+        }
+
+        private void forget(int slot) {
+            tested.clear(slot);
+            matched.clear(slot);
+        }
+
+        /**
+         * Records a rejection for every person {@code broader} has rejected.
+         */
+        private void rejectAllRejectedBy(CachedPredicate broader) {
+            tested.or(broader.tested);
+            tested.andNot(broader.matched);
+        }
+
+        /**
+         * Records the result for every person in {@code persons}, given exactly which of them match.
+         */
+        private void recordAll(Iterable<Person> persons, Set<Person> matches) {
+            for (Person person : persons) {
+                int slot = slotOf(person);
+                if (slot >= 0) {
+                    tested.set(slot);
+                    matched.set(slot, matches.contains(person));
+                }
+            }
+        }
+    }
+}
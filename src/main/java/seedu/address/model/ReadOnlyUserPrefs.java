@@ -13,4 +13,14 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the maximum number of versions that can be undone.
+     */
+    int getUndoHistoryDepth();
+
+    /**
+     * Returns the approximate memory, in bytes, that the undo history may retain.
+     */
+    long getUndoHistoryMemoryBudget();
+
 }
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -15,6 +16,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "studentconnect.json");
+    private int undoHistoryDepth = 50;
+    private long undoHistoryMemoryBudget = 32L * 1024 * 1024;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +39,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
+        setUndoHistoryMemoryBudget(newUserPrefs.getUndoHistoryMemoryBudget());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +61,24 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        checkArgument(undoHistoryDepth >= 0, "Undo history depth must be non-negative.");
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
+    public long getUndoHistoryMemoryBudget() {
+        return undoHistoryMemoryBudget;
+    }
+
+    public void setUndoHistoryMemoryBudget(long undoHistoryMemoryBudget) {
+        checkArgument(undoHistoryMemoryBudget >= 0, "Undo history memory budget must be non-negative.");
+        this.undoHistoryMemoryBudget = undoHistoryMemoryBudget;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +92,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && undoHistoryDepth == otherUserPrefs.undoHistoryDepth
+                && undoHistoryMemoryBudget == otherUserPrefs.undoHistoryMemoryBudget;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, undoHistoryDepth, undoHistoryMemoryBudget);
     }
 
     @Override
@@ -82,6 +107,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nUndo history depth : " + undoHistoryDepth);
+        sb.append("\nUndo history memory budget : " + undoHistoryMemoryBudget);
         return sb.toString();
     }
 
@@ -4,19 +4,21 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
 /**
  * Represents a Finance record in the address book.
  * Tracks the amount owed and payment history for a student.
+ * Finance values derived from one another share their payment history rather than copying it.
  */
 public class Finance {
 
     private final FinanceAmount owedAmount;
-    private final List<PaymentEntry> history;
+    private final PaymentHistory history;
+
+    /** Cached hash code, computed on first use; 0 until then. */
+    private int hash;
 
     /**
      * Constructs a {@code Finance} with the specified owed amount.
@@ -26,7 +28,7 @@ public class Finance {
     public Finance(FinanceAmount owedAmount) {
         requireAllNonNull(owedAmount);
         this.owedAmount = owedAmount;
-        this.history = new ArrayList<>();
+        this.history = PaymentHistory.empty();
     }
 
     /**
@@ -38,15 +40,20 @@ public class Finance {
     public Finance(FinanceAmount owedAmount, List<PaymentEntry> history) {
         requireAllNonNull(owedAmount);
         this.owedAmount = owedAmount;
-        this.history = new ArrayList<>(history == null ? List.of() : history);
+        this.history = history == null ? PaymentHistory.empty() : PaymentHistory.copyOf(history);
+    }
+
+    private Finance(FinanceAmount owedAmount, PaymentHistory history) {
+        this.owedAmount = owedAmount;
+        this.history = history;
     }
 
     /**
      * Constructs a {@code Finance} with zero owed amount.
      */
     public Finance() {
-        this.owedAmount = new FinanceAmount(0);
-        this.history = new ArrayList<>();
+        this.owedAmount = FinanceAmount.ofCents(0);
+        this.history = PaymentHistory.empty();
     }
 
     /**
@@ -64,7 +71,7 @@ public class Finance {
      * @return A list of {@code PaymentEntry} objects.
      */
     public List<PaymentEntry> getHistory() {
-        return Collections.unmodifiableList(history);
+        return history;
     }
 
     /**
@@ -86,8 +93,7 @@ public class Finance {
      */
     public Finance add(FinanceAmount amountToAdd) {
         requireAllNonNull(amountToAdd);
-        double newAmount = this.owedAmount.getAmount() + amountToAdd.getAmount();
-        return new Finance(new FinanceAmount(newAmount), this.history);
+        return new Finance(owedAmount.plus(amountToAdd), this.history);
     }
 
     /**
@@ -98,10 +104,9 @@ public class Finance {
      */
     public Finance pay(FinanceAmount amountToPay) {
         requireAllNonNull(amountToPay);
-        double newAmount = Math.max(0, this.owedAmount.getAmount() - amountToPay.getAmount());
-        List<PaymentEntry> newHistory = new ArrayList<>(history);
-        newHistory.add(new PaymentEntry(LocalDate.now(), LocalTime.now(), amountToPay));
-        return new Finance(new FinanceAmount(newAmount), newHistory);
+        FinanceAmount newAmount = owedAmount.minus(amountToPay);
+        PaymentEntry payment = new PaymentEntry(LocalDate.now(), LocalTime.now(), amountToPay);
+        return new Finance(newAmount, history.append(payment));
     }
 
     /**
@@ -121,18 +126,27 @@ public class Finance {
         }
 
         Finance otherFinance = (Finance) other;
+        if (hashCode() != otherFinance.hashCode()) {
+            return false;
+        }
+
         return owedAmount.equals(otherFinance.owedAmount)
                 && history.equals(otherFinance.history);
     }
 
     /**
-     * Returns the hash code for this {@code Finance}.
+     * Returns the hash code for this {@code Finance}, computed once since a {@code Finance} is immutable.
      *
      * @return Hash code of the Finance object.
      */
     @Override
     public int hashCode() {
-        return Objects.hash(owedAmount, history);
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(owedAmount, history);
+            hash = h;
+        }
+        return h;
     }
 
     /**
@@ -142,7 +156,6 @@ public class Finance {
      */
     @Override
     public String toString() {
-        return String.format("[Owed Amount: %.2f, Payments: %d]",
-                owedAmount.getAmount(), history.size());
+        return "[Owed Amount: " + owedAmount + ", Payments: " + history.size() + "]";
     }
 }
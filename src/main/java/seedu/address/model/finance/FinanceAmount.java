@@ -5,16 +5,18 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 /**
  * Represents a Finance's amount in the finance log.
+ * The amount is held as a whole number of cents, so arithmetic and comparisons are exact and allocation-free.
  * Guarantees: immutable; is valid as declared in {@link #isValidAmount(String)}
  */
-public class FinanceAmount {
+public class FinanceAmount implements Comparable<FinanceAmount> {
     public static final String MESSAGE_CONSTRAINTS =
             "Amount must be a positive number up to 2 decimal places, between $0.00 and $1,000,000.00 (inclusive).";
     public static final String MESSAGE_EXCEEDS_LIMIT =
             "The resulting amount would exceed the maximum allowed amount of $1,000,000.00.";
     private static final String VALIDATION_REGEX = "^\\s*(\\d{1,7})(\\.\\d{1,2})?\\s*$";
+    private static final long MAX_CENTS = 100_000_000L;
 
-    private final String amount;
+    private final long cents;
 
     /**
      * Constructs a {@code FinanceAmount}.
@@ -23,24 +25,34 @@ public class FinanceAmount {
     public FinanceAmount(String amount) {
         requireNonNull(amount);
         checkArgument(isValidAmount(amount), MESSAGE_CONSTRAINTS);
-        this.amount = amount;
+        this.cents = parseCents(amount.trim());
     }
 
     /**
      * Constructs a {@code FinanceAmount}.
-     * @param amount Amount in double format.
+     * @param amount Amount in double format, rounded to the nearest cent.
      */
     public FinanceAmount(double amount) {
-        String input = String.format("%.2f", amount);
-        checkArgument(isValidAmount(input), MESSAGE_CONSTRAINTS);
-        this.amount = input;
+        this(Math.round(amount * 100));
+    }
+
+    private FinanceAmount(long cents) {
+        checkArgument(cents >= 0 && cents <= MAX_CENTS, MESSAGE_CONSTRAINTS);
+        this.cents = cents;
+    }
+
+    /**
+     * Returns a {@code FinanceAmount} of {@code cents} cents.
+     */
+    public static FinanceAmount ofCents(long cents) {
+        return new FinanceAmount(cents);
     }
 
     /**
      * Returns true if FinanceAmount is zero.
      */
     public boolean isZero() {
-        return getAmount() == 0.0;
+        return cents == 0;
     }
 
     /**
@@ -51,8 +63,38 @@ public class FinanceAmount {
         if (!trimmed.matches(VALIDATION_REGEX)) {
             return false;
         }
-        double value = Double.parseDouble(trimmed);
-        return value <= 1000000;
+        return parseCents(trimmed) <= MAX_CENTS;
+    }
+
+    /**
+     * Returns the number of cents in {@code amount}, which must match {@code VALIDATION_REGEX} and be trimmed.
+     */
+    private static long parseCents(String amount) {
+        int point = amount.indexOf('.');
+        if (point == -1) {
+            return Long.parseLong(amount) * 100;
+        }
+        long whole = Long.parseLong(amount.substring(0, point));
+        String fraction = amount.substring(point + 1);
+        long fractionCents = Long.parseLong(fraction) * (fraction.length() == 1 ? 10 : 1);
+        return whole * 100 + fractionCents;
+    }
+
+    /**
+     * Returns the sum of this amount and {@code other}.
+     * @throws IllegalArgumentException if the sum exceeds the maximum allowed amount.
+     */
+    public FinanceAmount plus(FinanceAmount other) {
+        requireNonNull(other);
+        return new FinanceAmount(cents + other.cents);
+    }
+
+    /**
+     * Returns this amount less {@code other}, or zero if {@code other} is the larger amount.
+     */
+    public FinanceAmount minus(FinanceAmount other) {
+        requireNonNull(other);
+        return new FinanceAmount(Math.max(0, cents - other.cents));
     }
 
     /**
@@ -60,12 +102,28 @@ public class FinanceAmount {
      * @return amount is always valid
      */
     public double getAmount() {
-        return Double.parseDouble(amount);
+        return cents / 100.0;
+    }
+
+    /**
+     * Returns the amount as a whole number of cents.
+     */
+    public long toCents() {
+        return cents;
     }
 
+    @Override
+    public int compareTo(FinanceAmount other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    /**
+     * Returns the amount with exactly two decimal places, e.g. {@code 12.50}.
+     */
     @Override
     public String toString() {
-        return amount;
+        long fraction = cents % 100;
+        return (cents / 100) + (fraction < 10 ? ".0" : ".") + fraction;
     }
 
     @Override
@@ -78,12 +136,12 @@ public class FinanceAmount {
             return false;
         }
 
-        return amount.equals(otherAmount.amount);
+        return cents == otherAmount.cents;
     }
 
     @Override
     public int hashCode() {
-        return amount.hashCode();
+        return Long.hashCode(cents);
     }
 
 }
@@ -0,0 +1,106 @@
+package seedu.address.model.finance;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An immutable, append-only list of payments that shares its backing array between versions.
+ * Appending to the latest version writes into spare capacity of the shared array, so a chain of payments costs
+ * amortized O(1) each; appending to an older version copies only the entries it can see.
+ * Entries below a version's size are never overwritten, so every version stays unchanged.
+ */
+final class PaymentHistory extends AbstractList<PaymentEntry> implements RandomAccess {
+
+    private static final int MIN_CAPACITY = 4;
+    private static final PaymentHistory EMPTY = new PaymentHistory(new Buffer(new PaymentEntry[0], 0), 0);
+
+    private final Buffer buffer;
+    private final int size;
+
+    private PaymentHistory(Buffer buffer, int size) {
+        this.buffer = buffer;
+        this.size = size;
+    }
+
+    /**
+     * Returns an empty history.
+     */
+    static PaymentHistory empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a history holding the entries of {@code entries}, in order.
+     */
+    static PaymentHistory copyOf(List<PaymentEntry> entries) {
+        requireNonNull(entries);
+        if (entries instanceof PaymentHistory history) {
+            return history;
+        }
+        if (entries.isEmpty()) {
+            return EMPTY;
+        }
+        PaymentEntry[] items = entries.toArray(new PaymentEntry[0]);
+        return new PaymentHistory(new Buffer(items, items.length), items.length);
+    }
+
+    /**
+     * Returns a history with {@code entry} appended to the entries of this history.
+     */
+    PaymentHistory append(PaymentEntry entry) {
+        requireNonNull(entry);
+        Buffer target = buffer;
+        if (size != buffer.used || size == buffer.items.length) {
+            // Another version already extends this one, or the shared array is full
+            PaymentEntry[] items = new PaymentEntry[Math.max(MIN_CAPACITY, size * 2)];
+            System.arraycopy(buffer.items, 0, items, 0, size);
+            target = new Buffer(items, size);
+        }
+        target.items[size] = entry;
+        target.used = size + 1;
+        return new PaymentHistory(target, size + 1);
+    }
+
+    @Override
+    public PaymentEntry get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return buffer.items[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof PaymentHistory otherHistory
+                && otherHistory.buffer == buffer && otherHistory.size == size) {
+            return true;
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    /**
+     * A backing array shared by histories, and how many of its slots have been written.
+     */
+    private static final class Buffer {
+        private final PaymentEntry[] items;
+        private int used;
+
+        private Buffer(PaymentEntry[] items, int used) {
+            this.items = items;
+            this.used = used;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.DayOfWeek;
+import java.util.Locale;
 
 /**
  * Represents a Lesson's date in the address book.
@@ -16,6 +17,14 @@ public class Date {
     public static final String VALIDATION_REGEX =
             "^(?i)(Monday|Tuesday|Wednesday|Thursday|Friday|Saturday|Sunday)$";
 
+    private static final Date[] WEEKDAYS = new Date[DayOfWeek.values().length];
+
+    static {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            WEEKDAYS[day.ordinal()] = new Date(day.name());
+        }
+    }
+
     public final String value;
 
     /**
@@ -29,6 +38,17 @@ public class Date {
         value = date.toLowerCase();
     }
 
+    /**
+     * Returns the shared {@code Date} for {@code date}; there is one per day of the week.
+     *
+     * @param date A valid date.
+     */
+    public static Date of(String date) {
+        requireNonNull(date);
+        checkArgument(isValidDate(date), MESSAGE_CONSTRAINTS);
+        return WEEKDAYS[DayOfWeek.valueOf(date.toUpperCase(Locale.ROOT)).ordinal()];
+    }
+
     /**
      * Returns true if a given string is a valid date.
      */
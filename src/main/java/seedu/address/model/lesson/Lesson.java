@@ -17,6 +17,9 @@ public class Lesson {
     public final Location location;
     public final Attendance attendance;
 
+    /** Cached hash code, computed on first use; 0 until then. */
+    private int hash;
+
     /**
      * Constructs a {@code Lesson}.
      *
@@ -100,6 +103,10 @@ public class Lesson {
         }
 
         Lesson otherLesson = (Lesson) other;
+        if (hashCode() != otherLesson.hashCode()) {
+            return false;
+        }
+
         return lessonName.equals(otherLesson.lessonName)
                 && date.equals(otherLesson.date)
                 && time.equals(otherLesson.time)
@@ -109,7 +116,12 @@ public class Lesson {
 
     @Override
     public int hashCode() {
-        return Objects.hash(lessonName, date, time, location, attendance);
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(lessonName, date, time, location, attendance);
+            hash = h;
+        }
+        return h;
     }
 
     /**
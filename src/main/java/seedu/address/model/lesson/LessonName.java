@@ -3,6 +3,8 @@ package seedu.address.model.lesson;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Lesson's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidLessonName(String)}
@@ -18,6 +20,8 @@ public class LessonName {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Interner<LessonName> INTERNER = new Interner<>(LessonName::new, name -> name.fullLessonName);
+
     public final String fullLessonName;
 
     /**
@@ -31,6 +35,15 @@ public class LessonName {
         fullLessonName = lessonName;
     }
 
+    /**
+     * Returns the shared {@code LessonName} for {@code lessonName}, creating it on first use.
+     *
+     * @param lessonName A valid lesson name.
+     */
+    public static LessonName of(String lessonName) {
+        return INTERNER.intern(lessonName);
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
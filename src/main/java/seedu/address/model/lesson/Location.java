@@ -3,6 +3,8 @@ package seedu.address.model.lesson;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Lesson's location in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidLocation(String)}
@@ -18,6 +20,8 @@ public class Location {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Interner<Location> INTERNER = new Interner<>(Location::new, location -> location.value);
+
     public final String value;
 
     /**
@@ -31,6 +35,15 @@ public class Location {
         value = location;
     }
 
+    /**
+     * Returns the shared {@code Location} for {@code location}, creating it on first use.
+     *
+     * @param location A valid location.
+     */
+    public static Location of(String location) {
+        return INTERNER.intern(location);
+    }
+
     /**
      * Returns true if a given string is a valid location.
      */
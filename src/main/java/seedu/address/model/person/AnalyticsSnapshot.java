@@ -0,0 +1,186 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntToLongFunction;
+import java.util.stream.IntStream;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * A read-only, column-per-field view of the address book at one point in time, taken by {@link PersonColumns}.
+ * Every aggregate is a loop over primitive arrays, one chunk of rows at a time; large books are summed in parallel.
+ */
+public final class AnalyticsSnapshot {
+
+    /** Columns at least this long are aggregated in parallel. */
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private final int size;
+    private final long[][] owedCents;
+    private final int[][] totalLessons;
+    private final int[][] attendedLessons;
+    private final short[][] lessonSlots;
+    private final Map<Tag, Integer> tagIds;
+    private final List<BitSet[]> tagMembers;
+
+    /**
+     * Constructs a snapshot of the first {@code size} rows of the given columns, each split into chunks of
+     * {@link PersonColumns#CHUNK_SIZE} rows. Tag member chunks may be missing or null where no row has the tag.
+     */
+    AnalyticsSnapshot(int size, long[][] owedCents, int[][] totalLessons, int[][] attendedLessons,
+                      short[][] lessonSlots, Map<Tag, Integer> tagIds, List<BitSet[]> tagMembers) {
+        this.size = size;
+        this.owedCents = owedCents;
+        this.totalLessons = totalLessons;
+        this.attendedLessons = attendedLessons;
+        this.lessonSlots = lessonSlots;
+        this.tagIds = tagIds;
+        this.tagMembers = tagMembers;
+    }
+
+    /**
+     * Returns the number of persons in the snapshot.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the total amount owed across all persons, in cents.
+     */
+    public long getTotalOwedCents() {
+        return sumChunks(chunk -> {
+            long[] column = owedCents[chunk];
+            long total = 0;
+            for (int i = 0, rows = rowsIn(chunk); i < rows; i++) {
+                total += column[i];
+            }
+            return total;
+        });
+    }
+
+    /**
+     * Returns the number of persons who owe a non-zero amount.
+     */
+    public int getDebtorCount() {
+        return (int) sumChunks(chunk -> {
+            long[] column = owedCents[chunk];
+            int count = 0;
+            for (int i = 0, rows = rowsIn(chunk); i < rows; i++) {
+                count += column[i] > 0 ? 1 : 0;
+            }
+            return count;
+        });
+    }
+
+    /**
+     * Returns the number of lessons marked across all persons.
+     */
+    public long getTotalLessons() {
+        return sum(totalLessons);
+    }
+
+    /**
+     * Returns the number of lessons attended across all persons.
+     */
+    public long getTotalAttendances() {
+        return sum(attendedLessons);
+    }
+
+    /**
+     * Returns the fraction of marked lessons that were attended, or 0 if no lesson has been marked.
+     */
+    public double getAttendanceRate() {
+        long lessons = getTotalLessons();
+        return lessons == 0 ? 0 : (double) getTotalAttendances() / lessons;
+    }
+
+    /**
+     * Returns the number of persons with a lesson on each day, indexed by {@link DayOfWeek#ordinal()}.
+     */
+    public int[] getLessonCountsByDay() {
+        int[] counts = new int[DayOfWeek.values().length];
+        for (int chunk = 0; chunk < chunkCount(); chunk++) {
+            short[] column = lessonSlots[chunk];
+            for (int i = 0, rows = rowsIn(chunk); i < rows; i++) {
+                short slot = column[i];
+                if (slot != PersonColumns.NO_LESSON) {
+                    counts[slot / PersonColumns.MINUTES_PER_DAY]++;
+                }
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the number of persons tagged with {@code tag}.
+     */
+    public int countTagged(Tag tag) {
+        requireNonNull(tag);
+        Integer id = tagIds.get(tag);
+        if (id == null) {
+            return 0;
+        }
+        int count = 0;
+        for (BitSet members : tagMembers.get(id)) {
+            count += members == null ? 0 : members.cardinality();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the total amount owed by persons tagged with {@code tag}, in cents.
+     */
+    public long getTotalOwedCents(Tag tag) {
+        requireNonNull(tag);
+        Integer id = tagIds.get(tag);
+        if (id == null) {
+            return 0;
+        }
+        BitSet[] tagChunks = tagMembers.get(id);
+        long total = 0;
+        for (int chunk = 0; chunk < tagChunks.length; chunk++) {
+            BitSet members = tagChunks[chunk];
+            if (members == null) {
+                continue;
+            }
+            long[] column = owedCents[chunk];
+            for (int i = members.nextSetBit(0); i >= 0; i = members.nextSetBit(i + 1)) {
+                total += column[i];
+            }
+        }
+        return total;
+    }
+
+    private long sum(int[][] columnChunks) {
+        return sumChunks(chunk -> {
+            int[] column = columnChunks[chunk];
+            long total = 0;
+            for (int i = 0, rows = rowsIn(chunk); i < rows; i++) {
+                total += column[i];
+            }
+            return total;
+        });
+    }
+
+    /**
+     * Returns the sum of {@code chunkTotal} over every chunk, in parallel if the snapshot is large.
+     */
+    private long sumChunks(IntToLongFunction chunkTotal) {
+        IntStream chunks = IntStream.range(0, chunkCount());
+        return (size >= PARALLEL_THRESHOLD ? chunks.parallel() : chunks).mapToLong(chunkTotal).sum();
+    }
+
+    private int chunkCount() {
+        return PersonColumns.chunkCount(size);
+    }
+
+    private int rowsIn(int chunk) {
+        return Math.min(PersonColumns.CHUNK_SIZE, size - chunk * PersonColumns.CHUNK_SIZE);
+    }
+}
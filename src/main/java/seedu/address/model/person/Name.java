@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Locale;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,8 +24,17 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{L}0-9][\\p{L}0-9/' .-]*";
 
+    /** Orders names alphabetically, ignoring case. */
+    private static final Collator COLLATOR = Collator.getInstance(Locale.ROOT);
+
+    static {
+        COLLATOR.setStrength(Collator.SECONDARY);
+    }
+
     public final String fullName;
 
+    private CollationKey collationKey;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -40,6 +53,16 @@ public class Name {
         return test.matches(VALIDATION_REGEX) && test.length() <= MAX_LENGTH;
     }
 
+    /**
+     * Returns the key this name sorts by alphabetically. It is computed once, so sorting compares precomputed keys
+     * rather than collating the names again on every comparison.
+     */
+    public CollationKey getCollationKey() {
+        if (collationKey == null) {
+            collationKey = COLLATOR.getCollationKey(fullName);
+        }
+        return collationKey;
+    }
 
     @Override
     public String toString() {
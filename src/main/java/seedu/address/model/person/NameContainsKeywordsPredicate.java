@@ -9,19 +9,33 @@ import seedu.address.commons.util.ToStringBuilder;
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements RefinablePredicate {
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Person person) {
         return keywords.stream()
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
     }
 
+    /**
+     * Returns true if {@code other} is a name predicate holding every keyword of this one.
+     * Any one keyword is enough to match, so fewer keywords can only mean fewer matches.
+     */
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        return other instanceof NameContainsKeywordsPredicate otherPredicate
+                && otherPredicate.keywords.containsAll(keywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -37,6 +51,11 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
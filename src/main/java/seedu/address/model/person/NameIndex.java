@@ -0,0 +1,164 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * An index of persons by their case-insensitive full name.
+ * Supports constant-time exact lookups and ordered prefix-range queries over names.
+ * Names are not unique, so each name maps to the persons sharing it, in list order.
+ */
+public class NameIndex {
+
+    private final Map<String, List<Person>> exactIndex = new HashMap<>();
+    private final NavigableMap<String, List<Person>> orderedIndex = new TreeMap<>();
+    private final ToIntFunction<Person> listPosition;
+
+    /**
+     * Creates an index for persons that are only ever added at the end of the list, so the order they are indexed in
+     * is their list order.
+     */
+    public NameIndex() {
+        this(null);
+    }
+
+    /**
+     * Creates an index that asks {@code listPosition} for a person's position in the list when a renamed person has
+     * to be placed among the persons already sharing their new name.
+     */
+    public NameIndex(ToIntFunction<Person> listPosition) {
+        this.listPosition = listPosition;
+    }
+
+    /**
+     * Returns {@code name} in the normalized form used as an index key.
+     */
+    public static String normalize(String name) {
+        requireNonNull(name);
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        String key = normalize(person.getName().fullName);
+        List<Person> persons = exactIndex.get(key);
+        if (persons == null) {
+            persons = new ArrayList<>(1);
+            exactIndex.put(key, persons);
+            orderedIndex.put(key, persons);
+        }
+        persons.add(person);
+    }
+
+    /**
+     * Removes {@code person} from the index, if present.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        String key = normalize(person.getName().fullName);
+        List<Person> persons = exactIndex.get(key);
+        if (persons == null) {
+            return;
+        }
+        persons.remove(person);
+        if (persons.isEmpty()) {
+            exactIndex.remove(key);
+            orderedIndex.remove(key);
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson} in the index.
+     * If both share a name, {@code editedPerson} keeps the position of {@code target} among that name's persons.
+     * Otherwise {@code editedPerson} is placed among the persons sharing their new name by list position, which
+     * {@code editedPerson} must already hold.
+     */
+    public void replace(Person target, Person editedPerson) {
+        requireNonNull(target);
+        requireNonNull(editedPerson);
+        String key = normalize(target.getName().fullName);
+        List<Person> persons = exactIndex.get(key);
+        int position = persons == null ? -1 : persons.indexOf(target);
+        if (position != -1 && key.equals(normalize(editedPerson.getName().fullName))) {
+            persons.set(position, editedPerson);
+            return;
+        }
+        remove(target);
+        List<Person> namesakes = exactIndex.get(normalize(editedPerson.getName().fullName));
+        if (namesakes == null || listPosition == null) {
+            add(editedPerson);
+            return;
+        }
+        namesakes.add(insertionPoint(namesakes, listPosition.applyAsInt(editedPerson)), editedPerson);
+    }
+
+    /**
+     * Returns where a person at list position {@code position} goes among {@code namesakes}, which are in list order.
+     */
+    private int insertionPoint(List<Person> namesakes, int position) {
+        int low = 0;
+        int high = namesakes.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (listPosition.applyAsInt(namesakes.get(mid)) < position) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    public void clear() {
+        exactIndex.clear();
+        orderedIndex.clear();
+    }
+
+    /**
+     * Returns the first indexed person whose full name matches {@code name}, ignoring case and surrounding spaces.
+     */
+    public Optional<Person> findFirst(String name) {
+        List<Person> persons = exactIndex.get(normalize(name));
+        return persons == null ? Optional.empty() : Optional.of(persons.get(0));
+    }
+
+    /**
+     * Returns all indexed persons whose full name starts with {@code prefix}, ignoring case and leading spaces.
+     * Persons are ordered by their normalized name.
+     */
+    public List<Person> findByPrefix(String prefix) {
+        String normalizedPrefix = normalize(prefix);
+        List<Person> matches = new ArrayList<>();
+        for (Map.Entry<String, List<Person>> entry : orderedIndex.tailMap(normalizedPrefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(normalizedPrefix)) {
+                break;
+            }
+            matches.addAll(entry.getValue());
+        }
+        return matches;
+    }
+}
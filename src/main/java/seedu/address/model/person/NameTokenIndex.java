@@ -0,0 +1,95 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from lower-cased name tokens to the persons whose name contains that token as a whole word.
+ * Lets keyword searches union a few posting sets instead of testing every person's name.
+ */
+public class NameTokenIndex {
+
+    private final Map<String, Set<Person>> postings = new HashMap<>();
+
+    /**
+     * Returns the distinct index tokens of {@code fullName}.
+     */
+    private static Set<String> tokenize(String fullName) {
+        Set<String> tokens = new HashSet<>();
+        for (String word : fullName.split("\\s+")) {
+            if (!word.isEmpty()) {
+                tokens.add(word.toLowerCase(Locale.ROOT));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Adds {@code person} to the posting set of every token in their name.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String token : tokenize(person.getName().fullName)) {
+            postings.computeIfAbsent(token, unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the posting set of every token in their name.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String token : tokenize(person.getName().fullName)) {
+            Set<Person> persons = postings.get(token);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson} in the index.
+     */
+    public void replace(Person target, Person editedPerson) {
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        postings.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons whose name contains any of {@code keywords} as a whole word, ignoring case.
+     * The returned set compares persons by reference, so membership tests do not hash whole persons.
+     */
+    public Set<Person> findAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            Set<Person> persons = postings.get(keyword.trim().toLowerCase(Locale.ROOT));
+            if (persons != null) {
+                matches.addAll(persons);
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.finance.Finance;
+import seedu.address.model.finance.FinanceAmount;
+
+/**
+ * An index of the persons who owe a non-zero amount, sorted by the amount owed.
+ * Persons without a {@code Finance}, or who owe nothing, are never stored, so queries only touch debtors.
+ */
+public class OutstandingBalanceIndex {
+
+    private final NavigableMap<Long, Set<Person>> debtorsByOwedCents = new TreeMap<>();
+    private final Map<Person, Long> owedCents = new HashMap<>();
+    private long totalOwedCents;
+
+    /**
+     * Returns the amount owed by {@code person} in cents, or 0 if they have no finance record.
+     */
+    private static long owedCentsOf(Person person) {
+        return person.getFinance().map(Finance::getOwedAmount).map(FinanceAmount::toCents).orElse(0L);
+    }
+
+    /**
+     * Adds {@code person} to the index if they owe a non-zero amount.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        long cents = owedCentsOf(person);
+        if (cents == 0) {
+            return;
+        }
+        debtorsByOwedCents.computeIfAbsent(cents, unused -> new LinkedHashSet<>()).add(person);
+        owedCents.put(person, cents);
+        totalOwedCents += cents;
+    }
+
+    /**
+     * Removes {@code person} from the index, if present.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Long cents = owedCents.remove(person);
+        if (cents == null) {
+            return;
+        }
+        Set<Person> debtors = debtorsByOwedCents.get(cents);
+        debtors.remove(person);
+        if (debtors.isEmpty()) {
+            debtorsByOwedCents.remove(cents);
+        }
+        totalOwedCents -= cents;
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson} in the index.
+     */
+    public void replace(Person target, Person editedPerson) {
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        debtorsByOwedCents.clear();
+        owedCents.clear();
+        totalOwedCents = 0;
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns every person who owes a non-zero amount, in no particular order.
+     */
+    public Set<Person> getDebtors() {
+        return owedCents.keySet();
+    }
+
+    /**
+     * Returns the number of persons who owe a non-zero amount.
+     */
+    public int getDebtorCount() {
+        return owedCents.size();
+    }
+
+    /**
+     * Returns the total amount owed across all persons, in cents.
+     */
+    public long getTotalOwedCents() {
+        return totalOwedCents;
+    }
+
+    /**
+     * Returns up to {@code count} persons owing the largest amounts, largest first.
+     */
+    public List<Person> getTopDebtors(int count) {
+        return getTopDebtors(0, count);
+    }
+
+    /**
+     * Returns up to {@code count} persons owing the largest amounts, largest first, after skipping the
+     * {@code offset} largest. Amounts whose debtors all fall before the page are skipped without visiting them.
+     */
+    public List<Person> getTopDebtors(int offset, int count) {
+        checkArgument(count >= 0, "Count must be non-negative.");
+        checkArgument(offset >= 0, "Offset must be non-negative.");
+        List<Person> topDebtors = new ArrayList<>(Math.min(count, Math.max(0, owedCents.size() - offset)));
+        int toSkip = offset;
+        for (Set<Person> debtors : debtorsByOwedCents.descendingMap().values()) {
+            if (toSkip >= debtors.size()) {
+                toSkip -= debtors.size();
+                continue;
+            }
+            for (Person debtor : debtors) {
+                if (toSkip > 0) {
+                    toSkip--;
+                    continue;
+                }
+                if (topDebtors.size() == count) {
+                    return topDebtors;
+                }
+                topDebtors.add(debtor);
+            }
+        }
+        return topDebtors;
+    }
+
+    /**
+     * Returns the persons owing between {@code minCents} and {@code maxCents} inclusive, smallest amount first.
+     * Persons owing nothing are never included.
+     */
+    public List<Person> getDebtorsOwingBetween(long minCents, long maxCents) {
+        List<Person> debtorsInRange = new ArrayList<>();
+        if (minCents > maxCents) {
+            return debtorsInRange;
+        }
+        for (Set<Person> debtors : debtorsByOwedCents.subMap(minCents, true, maxCents, true).values()) {
+            debtorsInRange.addAll(debtors);
+        }
+        return debtorsInRange;
+    }
+}
@@ -0,0 +1,218 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import seedu.address.model.finance.Finance;
+import seedu.address.model.finance.PaymentEntry;
+
+/**
+ * An append-only ledger of every payment made by the indexed persons, ordered by payment date and time.
+ * Payments keep their position when their payer is edited; payments of removed persons are dropped lazily
+ * and compacted away once they outnumber the live ones.
+ */
+public class PaymentLedger {
+
+    private static final Comparator<PaymentEntry> CHRONOLOGICAL =
+            Comparator.comparing(PaymentEntry::getDate).thenComparing(PaymentEntry::getTime);
+
+    private final List<PaymentEntry> payments = new ArrayList<>();
+    private final Map<PaymentEntry, Person> payers = new IdentityHashMap<>();
+    private final Set<PaymentEntry> recorded = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Returns the payment history of {@code person}, or an empty list if they have no finance record.
+     */
+    private static List<PaymentEntry> historyOf(Person person) {
+        return person.getFinance().map(Finance::getHistory).orElse(List.of());
+    }
+
+    /**
+     * Adds every payment of {@code person} to the ledger.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (PaymentEntry payment : historyOf(person)) {
+            payers.put(payment, person);
+            if (recorded.add(payment)) {
+                append(payment);
+            }
+        }
+    }
+
+    /**
+     * Removes every payment of {@code person} from the ledger.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (PaymentEntry payment : historyOf(person)) {
+            payers.remove(payment);
+        }
+        compactIfSparse();
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson} in the ledger.
+     * Payments carried over from {@code target} keep their place; only new payments are appended.
+     */
+    public void replace(Person target, Person editedPerson) {
+        requireNonNull(target);
+        requireNonNull(editedPerson);
+        List<PaymentEntry> editedHistory = historyOf(editedPerson);
+        Set<PaymentEntry> carriedOver = Collections.newSetFromMap(new IdentityHashMap<>());
+        carriedOver.addAll(editedHistory);
+        for (PaymentEntry payment : historyOf(target)) {
+            if (!carriedOver.contains(payment)) {
+                payers.remove(payment);
+            }
+        }
+        add(editedPerson);
+        compactIfSparse();
+    }
+
+    /**
+     * Replaces the contents of the ledger with the payments of {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        payments.clear();
+        payers.clear();
+        recorded.clear();
+        for (Person person : persons) {
+            for (PaymentEntry payment : historyOf(person)) {
+                payers.put(payment, person);
+                if (recorded.add(payment)) {
+                    payments.add(payment);
+                }
+            }
+        }
+        payments.sort(CHRONOLOGICAL);
+    }
+
+    /**
+     * Returns the number of payments in the ledger.
+     */
+    public int size() {
+        return payers.size();
+    }
+
+    /**
+     * Returns all payments, newest first. Records are produced lazily as the result is iterated.
+     */
+    public Iterable<PaymentRecord> newestFirst() {
+        return () -> new NewestFirstIterator(0, payments.size());
+    }
+
+    /**
+     * Returns the payments made from {@code start} to {@code end} inclusive, newest first.
+     * The range is located by binary search; records are produced lazily as the result is iterated.
+     */
+    public Iterable<PaymentRecord> between(LocalDate start, LocalDate end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        int from = lowerBound(start, LocalTime.MIN);
+        int to = Math.max(from, lowerBound(end.plusDays(1), LocalTime.MIN));
+        return () -> new NewestFirstIterator(from, to);
+    }
+
+    /**
+     * Returns the index of the first payment made at or after {@code date} and {@code time}.
+     */
+    private int lowerBound(LocalDate date, LocalTime time) {
+        int low = 0;
+        int high = payments.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            PaymentEntry payment = payments.get(mid);
+            int cmp = payment.getDate().compareTo(date);
+            if (cmp == 0) {
+                cmp = payment.getTime().compareTo(time);
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Appends {@code payment}, keeping the ledger in chronological order.
+     * Payments are normally recorded in time order, so this is usually a plain append.
+     */
+    private void append(PaymentEntry payment) {
+        int last = payments.size() - 1;
+        if (last < 0 || CHRONOLOGICAL.compare(payments.get(last), payment) <= 0) {
+            payments.add(payment);
+            return;
+        }
+        int position = lowerBound(payment.getDate(), payment.getTime());
+        while (position < payments.size() && CHRONOLOGICAL.compare(payments.get(position), payment) == 0) {
+            position++;
+        }
+        payments.add(position, payment);
+    }
+
+    /**
+     * Drops payments of removed persons once they make up more than half of the ledger.
+     */
+    private void compactIfSparse() {
+        if (payments.size() > 2 * payers.size()) {
+            payments.removeIf(payment -> !payers.containsKey(payment));
+            recorded.retainAll(payers.keySet());
+        }
+    }
+
+    /**
+     * Iterates the live payments in {@code [from, to)} from newest to oldest.
+     */
+    private class NewestFirstIterator implements Iterator<PaymentRecord> {
+        private final int from;
+        private int cursor;
+        private PaymentRecord next;
+
+        NewestFirstIterator(int from, int to) {
+            this.from = from;
+            this.cursor = to;
+            advance();
+        }
+
+        private void advance() {
+            next = null;
+            while (next == null && cursor > from) {
+                PaymentEntry payment = payments.get(--cursor);
+                Person payer = payers.get(payment);
+                if (payer != null) {
+                    next = new PaymentRecord(payment, payer);
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public PaymentRecord next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            PaymentRecord current = next;
+            advance();
+            return current;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.model.finance.PaymentEntry;
+
+/**
+ * A {@code PaymentEntry} in the payment ledger, together with the person who made the payment.
+ */
+public final class PaymentRecord {
+    private final PaymentEntry payment;
+    private final Person payer;
+
+    /**
+     * Constructs a {@code PaymentRecord}.
+     *
+     * @param payment the recorded payment
+     * @param payer   the person whose history holds the payment
+     */
+    public PaymentRecord(PaymentEntry payment, Person payer) {
+        requireAllNonNull(payment, payer);
+        this.payment = payment;
+        this.payer = payer;
+    }
+
+    public PaymentEntry getPayment() {
+        return payment;
+    }
+
+    public Person getPayer() {
+        return payer;
+    }
+}
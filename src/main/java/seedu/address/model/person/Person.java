@@ -1,9 +1,8 @@
 package seedu.address.model.person;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -17,13 +16,22 @@ import seedu.address.model.lesson.LessonName;
 import seedu.address.model.lesson.Location;
 import seedu.address.model.lesson.Time;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * Each person stored in an address book also carries a numeric ID that the address book assigns and that stays the
+ * same across edits. The ID is a lookup key only and takes no part in {@code equals} or {@code hashCode}.
  */
 public class Person {
 
+    /** The ID of a person that has not been assigned one by an address book. */
+    public static final long UNASSIGNED_ID = 0;
+    /** The largest ID a person can have, so that every ID fits in an int and one more can always be computed. */
+    public static final long MAX_ID = Integer.MAX_VALUE;
+    public static final String MESSAGE_INVALID_ID = "Person IDs must be positive and at most " + MAX_ID + ".";
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -31,9 +39,15 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
-    private final Optional<Lesson> lesson;
-    private final Optional<Finance> finance;
+    private final TagSet tags;
+    // null when absent; exposed through the Optional getters
+    private final Lesson lesson;
+    private final Finance finance;
+
+    private final long id;
+
+    /** Cached hash code, computed on first use; 0 until then. */
+    private int hash;
 
     /**
      * Every field must be present and not null.
@@ -45,9 +59,24 @@ public class Person {
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
+        this.tags = TagSet.copyOf(tags);
+        this.lesson = lesson.orElse(null);
+        this.finance = finance.orElse(null);
+        this.id = UNASSIGNED_ID;
+    }
+
+    /**
+     * Creates a copy with a new ID and new lesson and finance details, sharing the tags of the original.
+     */
+    private Person(Person original, long id, Lesson lesson, Finance finance) {
+        this.name = original.name;
+        this.phone = original.phone;
+        this.email = original.email;
+        this.address = original.address;
+        this.tags = original.tags;
         this.lesson = lesson;
         this.finance = finance;
+        this.id = id;
     }
 
 
@@ -58,6 +87,34 @@ public class Person {
         this(name, phone, email, address, tags, Optional.empty(), Optional.empty());
     }
 
+    /**
+     * Returns the ID assigned to this person, or {@link #UNASSIGNED_ID} if none has been assigned.
+     */
+    public long getId() {
+        return id;
+    }
+
+    public boolean hasId() {
+        return id != UNASSIGNED_ID;
+    }
+
+    /**
+     * Returns true if {@code id} can be given to a person.
+     */
+    public static boolean isValidId(long id) {
+        return id > 0 && id <= MAX_ID;
+    }
+
+    /**
+     * Returns a copy of this person with the given ID.
+     *
+     * @param id A valid ID, as defined by {@link #isValidId(long)}.
+     */
+    public Person withId(long id) {
+        checkArgument(isValidId(id), MESSAGE_INVALID_ID);
+        return id == this.id ? this : new Person(this, id, lesson, finance);
+    }
+
     public Name getName() {
         return name;
     }
@@ -79,25 +136,25 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     public Optional<Finance> getFinance() {
-        return finance;
+        return Optional.ofNullable(finance);
     }
 
     public Optional<Lesson> getLesson() {
-        return lesson;
+        return Optional.ofNullable(lesson);
     }
 
     /**
      * Returns a new Person object with a new Lesson assigned to them.
      */
     public Person setLesson(String lessonName, String date, String time, String location) {
-        Optional<Lesson> updatedLesson = Optional.of(new Lesson(new LessonName(lessonName), new Date(date),
-                new Time(time), new Location(location)));
-        Optional<Finance> updatedFinance = finance.or(() -> Optional.of(new Finance()));
-        return new Person(name, phone, email, address, tags, updatedLesson, updatedFinance);
+        Lesson updatedLesson = new Lesson(LessonName.of(lessonName), Date.of(date), new Time(time),
+                Location.of(location));
+        Finance updatedFinance = finance != null ? finance : new Finance();
+        return new Person(this, id, updatedLesson, updatedFinance);
     }
 
     /**
@@ -107,13 +164,12 @@ public class Person {
      * @return A new Person object with the updated lesson attendance.
      */
     public Person markAttendance(AttendanceStatus attendanceStatus) throws IllegalStateException {
-        if (lesson.isEmpty()) {
+        if (lesson == null) {
             throw new IllegalStateException(
                     "This person has no lesson assigned to mark attendance for.");
         }
-        Lesson updatedLesson = this.lesson.get().markAttendance(attendanceStatus);
-        return new Person(this.name, this.phone, this.email, this.address, this.tags,
-                Optional.of(updatedLesson), this.finance);
+        Lesson updatedLesson = this.lesson.markAttendance(attendanceStatus);
+        return new Person(this, id, updatedLesson, this.finance);
     }
 
     /**
@@ -144,6 +200,11 @@ public class Person {
             return false;
         }
 
+        // cached hashes let unequal persons be rejected without comparing histories
+        if (hashCode() != otherPerson.hashCode()) {
+            return false;
+        }
+
         return name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
@@ -155,8 +216,13 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags, lesson, finance);
+        int h = hash;
+        if (h == 0) {
+            // use this method for custom fields hashing instead of implementing your own
+            h = Objects.hash(name, phone, email, address, tags, lesson, finance);
+            hash = h;
+        }
+        return h;
     }
 
     @Override
@@ -167,8 +233,8 @@ public class Person {
                 .add("email", email)
                 .add("address", address)
                 .add("tags", tags)
-                .add("lesson", lesson.orElse(null))
-                .add("finance", finance)
+                .add("lesson", lesson)
+                .add("finance", getFinance())
                 .toString();
     }
 
@@ -0,0 +1,255 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.finance.Finance;
+import seedu.address.model.finance.FinanceAmount;
+import seedu.address.model.lesson.Attendance;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A column-per-field copy of the numbers aggregate reports need, with one row per person.
+ * Owed cents, attendance counts and packed lesson slots are held in primitive arrays, and tag membership in bitsets,
+ * so reports can scan them without touching {@code Person} objects.
+ * Rows are not kept in list order: removing a person moves the last row into the freed one.
+ * Every column is split into chunks of {@link #CHUNK_SIZE} rows. {@link #snapshot()} hands out the current chunks
+ * without copying them; the first update to a chunk after that copies just that chunk, so a snapshot never changes
+ * after it is taken and an update costs at most one chunk's copy, apart from growing the arrays.
+ */
+public class PersonColumns {
+
+    /** The lesson slot of a person without a lesson. */
+    static final short NO_LESSON = -1;
+    static final int MINUTES_PER_DAY = 24 * 60;
+
+    static final int CHUNK_SHIFT = 10;
+    /** The number of rows in each chunk of a column. */
+    static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int INITIAL_CHUNKS = 1;
+
+    private final Map<Person, Integer> rows = new HashMap<>();
+    private Person[] persons = new Person[INITIAL_CAPACITY];
+    private long[][] owedCents = new long[INITIAL_CHUNKS][];
+    private int[][] totalLessons = new int[INITIAL_CHUNKS][];
+    private int[][] attendedLessons = new int[INITIAL_CHUNKS][];
+    private short[][] lessonSlots = new short[INITIAL_CHUNKS][];
+    /** Whether each chunk may still be shared with a snapshot, so must be copied before it is changed. */
+    private boolean[] sharedChunks = new boolean[INITIAL_CHUNKS];
+    private int size;
+
+    private Map<Tag, Integer> tagIds = new HashMap<>();
+    /** The members of each tag, as one bitset per chunk, null where no row in the chunk has the tag. */
+    private List<BitSet[]> tagMembers = new ArrayList<>();
+
+    /** The last snapshot handed out, or null if the columns have changed since. */
+    private AnalyticsSnapshot snapshot;
+
+    /**
+     * Packs the day and start time of {@code lesson} into the number of minutes since Monday 00:00.
+     */
+    static short slotOf(Lesson lesson) {
+        LocalTime start = lesson.getTime().asLocalTime();
+        int minutes = lesson.getDate().asDayOfWeek().ordinal() * MINUTES_PER_DAY + start.getHour() * 60
+                + start.getMinute();
+        return (short) minutes;
+    }
+
+    /**
+     * Returns the number of chunks holding the first {@code size} rows.
+     */
+    static int chunkCount(int size) {
+        return (size + CHUNK_SIZE - 1) >>> CHUNK_SHIFT;
+    }
+
+    /**
+     * Adds a row for {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        snapshot = null;
+        int row = size++;
+        ensureRow(row);
+        rows.put(person, row);
+        writeRow(row, person);
+    }
+
+    /**
+     * Removes the row of {@code person}, moving the last row into its place.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer row = rows.get(person);
+        if (row == null) {
+            return;
+        }
+        snapshot = null;
+        rows.remove(person);
+        setTagBits(person, row, false);
+        int last = --size;
+        if (row != last) {
+            Person moved = persons[last];
+            setTagBits(moved, last, false);
+            rows.put(moved, row);
+            writeRow(row, moved);
+        }
+        persons[last] = null;
+    }
+
+    /**
+     * Overwrites the row of {@code target} with the values of {@code editedPerson}.
+     */
+    public void replace(Person target, Person editedPerson) {
+        requireNonNull(editedPerson);
+        Integer row = rows.get(target);
+        if (row == null) {
+            add(editedPerson);
+            return;
+        }
+        snapshot = null;
+        rows.remove(target);
+        setTagBits(target, row, false);
+        rows.put(editedPerson, row);
+        writeRow(row, editedPerson);
+    }
+
+    /**
+     * Replaces every row with one per person in {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        rows.clear();
+        this.persons = new Person[Math.max(INITIAL_CAPACITY, persons.size())];
+        int chunks = Math.max(INITIAL_CHUNKS, chunkCount(persons.size()));
+        owedCents = new long[chunks][];
+        totalLessons = new int[chunks][];
+        attendedLessons = new int[chunks][];
+        lessonSlots = new short[chunks][];
+        sharedChunks = new boolean[chunks];
+        tagIds = new HashMap<>();
+        tagMembers = new ArrayList<>();
+        size = 0;
+        snapshot = null;
+        for (Person person : persons) {
+            int row = size++;
+            ensureRow(row);
+            rows.put(person, row);
+            writeRow(row, person);
+        }
+    }
+
+    /**
+     * Returns a read-only view of the current columns. Repeated calls without an update in between return the same
+     * snapshot.
+     */
+    public AnalyticsSnapshot snapshot() {
+        if (snapshot == null) {
+            int chunks = chunkCount(size);
+            List<BitSet[]> members = new ArrayList<>(tagMembers.size());
+            for (BitSet[] tagChunks : tagMembers) {
+                members.add(Arrays.copyOf(tagChunks, Math.min(tagChunks.length, chunks)));
+            }
+            snapshot = new AnalyticsSnapshot(size, Arrays.copyOf(owedCents, chunks),
+                    Arrays.copyOf(totalLessons, chunks), Arrays.copyOf(attendedLessons, chunks),
+                    Arrays.copyOf(lessonSlots, chunks), Map.copyOf(tagIds), List.copyOf(members));
+            Arrays.fill(sharedChunks, 0, chunks, true);
+        }
+        return snapshot;
+    }
+
+    private void writeRow(int row, Person person) {
+        int chunk = row >>> CHUNK_SHIFT;
+        int offset = row & (CHUNK_SIZE - 1);
+        ownChunk(chunk);
+        persons[row] = person;
+        owedCents[chunk][offset] = person.getFinance().map(Finance::getOwedAmount).map(FinanceAmount::toCents)
+                .orElse(0L);
+        Attendance attendance = person.getLesson().map(Lesson::getAttendance).orElse(null);
+        totalLessons[chunk][offset] = attendance == null ? 0 : attendance.getTotalLessons();
+        attendedLessons[chunk][offset] = attendance == null ? 0 : attendance.getTotalAttendances();
+        lessonSlots[chunk][offset] = person.getLesson().map(PersonColumns::slotOf).orElse(NO_LESSON);
+        setTagBits(person, row, true);
+    }
+
+    private void setTagBits(Person person, int row, boolean member) {
+        int chunk = row >>> CHUNK_SHIFT;
+        ownChunk(chunk);
+        for (Tag tag : person.getTags()) {
+            Integer id = tagIds.get(tag);
+            if (id == null) {
+                if (!member) {
+                    continue;
+                }
+                id = tagMembers.size();
+                tagIds.put(tag, id);
+                tagMembers.add(new BitSet[owedCents.length]);
+            }
+            BitSet[] tagChunks = tagMembers.get(id);
+            if (chunk >= tagChunks.length) {
+                tagChunks = Arrays.copyOf(tagChunks, owedCents.length);
+                tagMembers.set(id, tagChunks);
+            }
+            if (tagChunks[chunk] == null) {
+                if (!member) {
+                    continue;
+                }
+                tagChunks[chunk] = new BitSet();
+            }
+            tagChunks[chunk].set(row & (CHUNK_SIZE - 1), member);
+        }
+    }
+
+    /**
+     * Copies {@code chunk} of every column if a snapshot may still share it, so the snapshot is left unchanged by
+     * the coming update.
+     */
+    private void ownChunk(int chunk) {
+        if (!sharedChunks[chunk]) {
+            return;
+        }
+        owedCents[chunk] = owedCents[chunk].clone();
+        totalLessons[chunk] = totalLessons[chunk].clone();
+        attendedLessons[chunk] = attendedLessons[chunk].clone();
+        lessonSlots[chunk] = lessonSlots[chunk].clone();
+        for (BitSet[] tagChunks : tagMembers) {
+            if (chunk < tagChunks.length && tagChunks[chunk] != null) {
+                tagChunks[chunk] = (BitSet) tagChunks[chunk].clone();
+            }
+        }
+        sharedChunks[chunk] = false;
+    }
+
+    /**
+     * Makes room for {@code row}, allocating its chunk if it has none yet.
+     */
+    private void ensureRow(int row) {
+        if (row == persons.length) {
+            persons = Arrays.copyOf(persons, persons.length * 2);
+        }
+        int chunk = row >>> CHUNK_SHIFT;
+        if (chunk == owedCents.length) {
+            int chunks = owedCents.length * 2;
+            owedCents = Arrays.copyOf(owedCents, chunks);
+            totalLessons = Arrays.copyOf(totalLessons, chunks);
+            attendedLessons = Arrays.copyOf(attendedLessons, chunks);
+            lessonSlots = Arrays.copyOf(lessonSlots, chunks);
+            sharedChunks = Arrays.copyOf(sharedChunks, chunks);
+        }
+        if (owedCents[chunk] == null) {
+            owedCents[chunk] = new long[CHUNK_SIZE];
+            totalLessons[chunk] = new int[CHUNK_SIZE];
+            attendedLessons[chunk] = new int[CHUNK_SIZE];
+            lessonSlots[chunk] = new short[CHUNK_SIZE];
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Optional;
+
+import seedu.address.model.finance.Finance;
+import seedu.address.model.finance.FinanceAmount;
+import seedu.address.model.lesson.Attendance;
+import seedu.address.model.lesson.Lesson;
+
+/**
+ * The orders the person list can be sorted in. Every order other than {@link #NONE} breaks ties by name.
+ */
+public enum PersonSortKey {
+    /** Alphabetically by name, ignoring case. */
+    NAME("name"),
+    /** Largest amount owed first. */
+    OWED("owed"),
+    /** Highest attendance rate first; persons with no marked lessons come last. */
+    ATTENDANCE("attendance"),
+    /** Soonest upcoming lesson first; persons without a lesson come last. */
+    LESSON("lesson"),
+    /** The order persons were added in. */
+    NONE("none");
+
+    private static final int MINUTES_PER_WEEK = 7 * PersonColumns.MINUTES_PER_DAY;
+    private static final Comparator<Person> BY_NAME = Comparator.comparing(person -> person.getName().getCollationKey());
+
+    private final String keyword;
+
+    PersonSortKey(String keyword) {
+        this.keyword = keyword;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns the sort key named by {@code keyword}, ignoring case.
+     */
+    public static Optional<PersonSortKey> fromKeyword(String keyword) {
+        requireNonNull(keyword);
+        String lowerCased = keyword.trim().toLowerCase(Locale.ROOT);
+        for (PersonSortKey key : values()) {
+            if (key.keyword.equals(lowerCased)) {
+                return Optional.of(key);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the comparator for this order, or null for {@link #NONE}.
+     * Lessons are ordered by how soon they next start after {@code now}.
+     */
+    public Comparator<Person> comparator(LocalDateTime now) {
+        requireNonNull(now);
+        switch (this) {
+        case NAME:
+            return BY_NAME;
+        case OWED:
+            return Comparator.comparingLong(PersonSortKey::owedCents).reversed().thenComparing(BY_NAME);
+        case ATTENDANCE:
+            return Comparator.comparingDouble(PersonSortKey::attendanceRank).thenComparing(BY_NAME);
+        case LESSON:
+            int nowSlot = now.getDayOfWeek().ordinal() * PersonColumns.MINUTES_PER_DAY + now.getHour() * 60
+                    + now.getMinute();
+            return Comparator.comparingInt((Person person) -> minutesUntilLesson(person, nowSlot))
+                    .thenComparing(BY_NAME);
+        default:
+            return null;
+        }
+    }
+
+    private static long owedCents(Person person) {
+        return person.getFinance().map(Finance::getOwedAmount).map(FinanceAmount::toCents).orElse(0L);
+    }
+
+    /**
+     * Returns the negated attendance rate, so higher rates sort first, or 1 if no lesson has been marked.
+     */
+    private static double attendanceRank(Person person) {
+        Attendance attendance = person.getLesson().map(Lesson::getAttendance).orElse(null);
+        if (attendance == null || attendance.getTotalLessons() == 0) {
+            return 1;
+        }
+        return -(double) attendance.getTotalAttendances() / attendance.getTotalLessons();
+    }
+
+    /**
+     * Returns the minutes from {@code nowSlot} until the person's weekly lesson next starts, or
+     * {@code Integer.MAX_VALUE} if they have no lesson.
+     */
+    private static int minutesUntilLesson(Person person, int nowSlot) {
+        return person.getLesson()
+                .map(lesson -> Math.floorMod(PersonColumns.slotOf(lesson) - nowSlot, MINUTES_PER_WEEK))
+                .orElse(Integer.MAX_VALUE);
+    }
+}
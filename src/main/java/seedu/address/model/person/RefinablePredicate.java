@@ -0,0 +1,16 @@
+package seedu.address.model.person;
+
+import java.util.function.Predicate;
+
+/**
+ * A {@code Person} predicate that can tell when it narrows another predicate.
+ * A filtered view can then re-test only the persons the other predicate matched.
+ */
+public interface RefinablePredicate extends Predicate<Person> {
+
+    /**
+     * Returns true if every person this predicate matches is also matched by {@code other}.
+     * Returning false is always safe.
+     */
+    boolean refines(Predicate<Person> other);
+}
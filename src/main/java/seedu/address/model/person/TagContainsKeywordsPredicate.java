@@ -8,13 +8,17 @@ import seedu.address.commons.util.ToStringBuilder;
 /**
  * Tests that a {@code Person}'s {@code Tag} matches any of the keywords given.
  */
-public class TagContainsKeywordsPredicate implements Predicate<Person> {
+public class TagContainsKeywordsPredicate implements RefinablePredicate {
     private final List<String> keywords;
 
     public TagContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     /**
      * Tests if any of the person's tags contain any of the keywords (case-insensitive, partial match).
      * Returning true if at least one keyword matches at least one tag; otherwise, false.
@@ -27,6 +31,16 @@ public class TagContainsKeywordsPredicate implements Predicate<Person> {
                                 .anyMatch(tag -> tag.toString().toLowerCase().contains(keyword.toLowerCase())));
     }
 
+    /**
+     * Returns true if {@code other} is a tag predicate whose keywords include all of these,
+     * so it matches at least the persons this one does.
+     */
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        return other instanceof TagContainsKeywordsPredicate otherPredicate
+                && otherPredicate.keywords.containsAll(keywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -42,6 +56,11 @@ public class TagContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
@@ -0,0 +1,155 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index of persons by tag that supports case-insensitive substring queries over tag names.
+ * Every distinct tag is interned to an integer ID. A trigram index over the tag texts resolves a substring query to
+ * the matching tag IDs first, and only then to their members, so query cost depends on the number of distinct tags
+ * and matches rather than on the number of persons.
+ */
+public class TagIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<Tag, Integer> tagIds = new HashMap<>();
+    private final List<String> tagTexts = new ArrayList<>();
+    private final List<Set<Person>> members = new ArrayList<>();
+    private final Map<String, Set<Integer>> grams = new HashMap<>();
+
+    /**
+     * Returns the lower-cased text of {@code tag} that queries are matched against.
+     * This is the same text {@link TagContainsKeywordsPredicate} tests.
+     */
+    private static String textOf(Tag tag) {
+        return tag.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the ID of {@code tag}, interning it if it has not been seen before.
+     */
+    private int intern(Tag tag) {
+        Integer id = tagIds.get(tag);
+        if (id != null) {
+            return id;
+        }
+
+        int newId = tagTexts.size();
+        String text = textOf(tag);
+        tagIds.put(tag, newId);
+        tagTexts.add(text);
+        members.add(new HashSet<>());
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.computeIfAbsent(text.substring(i, i + GRAM_LENGTH), unused -> new HashSet<>()).add(newId);
+        }
+        return newId;
+    }
+
+    /**
+     * Adds {@code person} as a member of each of their tags.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (Tag tag : person.getTags()) {
+            members.get(intern(tag)).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} as a member of each of their tags.
+     * Tag IDs stay interned even when a tag has no members left.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (Tag tag : person.getTags()) {
+            Integer id = tagIds.get(tag);
+            if (id != null) {
+                members.get(id).remove(person);
+            }
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson} in the index.
+     */
+    public void replace(Person target, Person editedPerson) {
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        tagIds.clear();
+        tagTexts.clear();
+        members.clear();
+        grams.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the IDs of the tags whose text contains {@code keyword}, ignoring case.
+     */
+    private Set<Integer> findTagIds(String keyword) {
+        String lowerKeyword = keyword.toLowerCase(Locale.ROOT);
+        Set<Integer> matches = new HashSet<>();
+        if (lowerKeyword.length() < GRAM_LENGTH) {
+            // Too short to use the trigram index; the tag vocabulary is small, so check every distinct tag
+            for (int id = 0; id < tagTexts.size(); id++) {
+                if (tagTexts.get(id).contains(lowerKeyword)) {
+                    matches.add(id);
+                }
+            }
+            return matches;
+        }
+
+        Set<Integer> candidates = null;
+        for (int i = 0; i + GRAM_LENGTH <= lowerKeyword.length(); i++) {
+            Set<Integer> ids = grams.get(lowerKeyword.substring(i, i + GRAM_LENGTH));
+            if (ids == null) {
+                return matches;
+            }
+            if (candidates == null) {
+                candidates = new HashSet<>(ids);
+            } else {
+                candidates.retainAll(ids);
+            }
+        }
+        for (int id : candidates) {
+            if (tagTexts.get(id).contains(lowerKeyword)) {
+                matches.add(id);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the persons with at least one tag containing any of {@code keywords}, ignoring case.
+     * The returned set compares persons by reference, so membership tests do not hash whole persons.
+     */
+    public Set<Person> findAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            for (int id : findTagIds(keyword)) {
+                matches.addAll(members.get(id));
+            }
+        }
+        return matches;
+    }
+}
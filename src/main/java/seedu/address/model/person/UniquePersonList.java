@@ -3,8 +3,12 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +24,10 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * The position of every person is tracked in a map keyed on the identity fields used by
+ * {@code Person#isSamePerson(Person)}, and is kept in sync as rows move. Duplicate checks and target lookups therefore
+ * do not need to scan the list or deep-compare every person they pass.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -27,13 +35,14 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<IdentityKey, Integer> positions = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positions.containsKey(new IdentityKey(toCheck));
     }
 
     /**
@@ -45,6 +54,7 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        positions.put(new IdentityKey(toAdd), internalList.size());
         internalList.add(toAdd);
     }
 
@@ -56,7 +66,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -66,6 +76,8 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        positions.remove(new IdentityKey(target));
+        positions.put(new IdentityKey(editedPerson), index);
     }
 
     /**
@@ -74,27 +86,40 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        internalList.remove(index);
+        positions.remove(new IdentityKey(toRemove));
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(new IdentityKey(internalList.get(i)), i);
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        positions.clear();
+        positions.putAll(replacement.positions);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * This is the bulk-load path: duplicates are detected in a single hashed pass and the backing list is filled
+     * with one {@code setAll}, so it runs in linear time.
+     *
+     * @throws DuplicatePersonException listing every duplicate person if {@code persons} is not unique.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<IdentityKey, Integer> newPositions = indexUniquePersons(persons);
 
         internalList.setAll(persons);
+        positions.clear();
+        positions.putAll(newPositions);
     }
 
     /**
@@ -135,16 +160,74 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the person at {@code index}.
+     */
+    public Person get(int index) {
+        return internalList.get(index);
+    }
+
+    /**
+     * Returns the position of the person equal to {@code person}, or -1 if there is no such person.
+     * At most one person is deep-compared, since persons with the same identity cannot appear twice.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        Integer index = positions.get(new IdentityKey(person));
+        if (index == null) {
+            return -1;
+        }
+
+        Person stored = internalList.get(index);
+        return stored == person || stored.equals(person) ? index : -1;
+    }
+
+    /**
+     * Returns the positions of {@code persons}, keyed on their identity.
+     *
+     * @throws DuplicatePersonException listing every duplicate person if {@code persons} is not unique.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<IdentityKey, Integer> indexUniquePersons(List<Person> persons) {
+        Map<IdentityKey, Integer> index = new HashMap<>();
+        List<Person> duplicates = new ArrayList<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (index.putIfAbsent(new IdentityKey(persons.get(i)), i) != null) {
+                duplicates.add(persons.get(i));
             }
         }
-        return true;
+        if (!duplicates.isEmpty()) {
+            throw new DuplicatePersonException(duplicates);
+        }
+        return index;
+    }
+
+    /**
+     * The identity fields of a {@code Person}, as compared by {@code Person#isSamePerson(Person)}.
+     */
+    private static final class IdentityKey {
+        private final Name name;
+        private final Email email;
+
+        IdentityKey(Person person) {
+            this.name = person.getName();
+            this.email = person.getEmail();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof IdentityKey otherKey)) {
+                return false;
+            }
+
+            return name.equals(otherKey.name) && email.equals(otherKey.email);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, email);
+        }
     }
 }
@@ -0,0 +1,123 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.address.model.lesson.Lesson;
+
+/**
+ * An index of the persons with a lesson, bucketed by the lesson's day of the week and ordered by its start time.
+ * Persons starting at the same time keep the order in which they were indexed.
+ */
+public class WeeklyScheduleIndex {
+
+    private final Map<DayOfWeek, NavigableMap<LocalTime, List<Person>>> buckets = new EnumMap<>(DayOfWeek.class);
+
+    /**
+     * Returns the time slot holding {@code lesson}, creating it if {@code create} is true.
+     * Returns null if the slot does not exist and {@code create} is false.
+     */
+    private List<Person> slotOf(Lesson lesson, boolean create) {
+        DayOfWeek day = lesson.getDate().asDayOfWeek();
+        LocalTime start = lesson.getTime().asLocalTime();
+        NavigableMap<LocalTime, List<Person>> bucket = buckets.get(day);
+        if (bucket == null) {
+            if (!create) {
+                return null;
+            }
+            bucket = new TreeMap<>();
+            buckets.put(day, bucket);
+        }
+        return create ? bucket.computeIfAbsent(start, unused -> new ArrayList<>(1)) : bucket.get(start);
+    }
+
+    /**
+     * Adds {@code person} to the bucket of their lesson's day, if they have a lesson.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        person.getLesson().ifPresent(lesson -> slotOf(lesson, true).add(person));
+    }
+
+    /**
+     * Removes {@code person} from the bucket of their lesson's day, if present.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        if (person.getLesson().isEmpty()) {
+            return;
+        }
+        Lesson lesson = person.getLesson().get();
+        List<Person> slot = slotOf(lesson, false);
+        if (slot == null) {
+            return;
+        }
+        slot.remove(person);
+        if (slot.isEmpty()) {
+            DayOfWeek day = lesson.getDate().asDayOfWeek();
+            NavigableMap<LocalTime, List<Person>> bucket = buckets.get(day);
+            bucket.remove(lesson.getTime().asLocalTime());
+            if (bucket.isEmpty()) {
+                buckets.remove(day);
+            }
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson} in the index.
+     * If both have a lesson at the same day and time, {@code editedPerson} keeps the position of {@code target}.
+     */
+    public void replace(Person target, Person editedPerson) {
+        requireNonNull(target);
+        requireNonNull(editedPerson);
+        if (target.getLesson().isPresent() && editedPerson.getLesson().isPresent()) {
+            List<Person> slot = slotOf(target.getLesson().get(), false);
+            int position = slot == null ? -1 : slot.indexOf(target);
+            if (position != -1 && slot == slotOf(editedPerson.getLesson().get(), false)) {
+                slot.set(position, editedPerson);
+                return;
+            }
+        }
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        buckets.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns true if no indexed person has a lesson.
+     */
+    public boolean isEmpty() {
+        return buckets.isEmpty();
+    }
+
+    /**
+     * Returns the persons with a lesson on {@code day}, ordered by the lesson's start time.
+     */
+    public List<Person> getPersonsOn(DayOfWeek day) {
+        requireNonNull(day);
+        NavigableMap<LocalTime, List<Person>> bucket = buckets.get(day);
+        if (bucket == null) {
+            return Collections.emptyList();
+        }
+        List<Person> persons = new ArrayList<>();
+        bucket.values().forEach(persons::addAll);
+        return persons;
+    }
+}
@@ -1,11 +1,43 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+    private final List<Person> duplicates;
+
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        this.duplicates = List.of();
+    }
+
+    /**
+     * Creates an exception that records every person in {@code duplicates} whose identity was already taken.
+     */
+    public DuplicatePersonException(List<Person> duplicates) {
+        super("Operation would result in duplicate persons: " + describe(duplicates));
+        this.duplicates = List.copyOf(duplicates);
+    }
+
+    /**
+     * Returns the persons that clashed with an earlier person, in the order they were found.
+     */
+    public List<Person> getDuplicates() {
+        return duplicates;
+    }
+
+    /**
+     * Returns a short, human-readable listing of the identity fields of {@code persons}.
+     */
+    public static String describe(List<Person> persons) {
+        return persons.stream()
+                .map(person -> person.getName() + " (" + person.getEmail() + ")")
+                .collect(Collectors.joining(", "));
     }
 }
@@ -0,0 +1,113 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of tags held in a single array sorted by tag name.
+ * Copying a {@code TagSet} returns the same instance, so persons derived from one another share their tags.
+ * Membership is a binary search, which is fast for the handful of tags a person carries.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    private static final Comparator<Tag> BY_NAME = Comparator.comparing(tag -> tag.tagName);
+    private static final TagSet EMPTY = new TagSet(new Tag[0]);
+
+    private final Tag[] tags;
+
+    private TagSet(Tag[] tags) {
+        this.tags = tags;
+    }
+
+    /**
+     * Returns an empty tag set.
+     */
+    public static TagSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a tag set holding the distinct tags in {@code tags}.
+     */
+    public static TagSet copyOf(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet tagSet) {
+            return tagSet;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+        Tag[] sorted = tags.toArray(new Tag[0]);
+        Arrays.sort(sorted, BY_NAME);
+        int distinct = 0;
+        for (Tag tag : sorted) {
+            requireNonNull(tag);
+            if (distinct == 0 || !sorted[distinct - 1].equals(tag)) {
+                sorted[distinct++] = tag;
+            }
+        }
+        return new TagSet(distinct == sorted.length ? sorted : Arrays.copyOf(sorted, distinct));
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Tag tag && Arrays.binarySearch(tags, tag, BY_NAME) >= 0;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < tags.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (next >= tags.length) {
+                    throw new NoSuchElementException();
+                }
+                return tags[next++];
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+}
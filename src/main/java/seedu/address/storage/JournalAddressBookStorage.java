@@ -0,0 +1,408 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus a journal of the changes made since it was taken.
+ * <p>
+ * Each save appends one line to the journal for every person added, changed or removed since the previous save, so
+ * saving a single change costs about one person's worth of I/O instead of the whole address book. Persons are matched
+ * across saves by ID. Once the journal grows past a threshold it is compacted: the snapshot is rewritten and the
+ * journal emptied. Loading reads the snapshot and replays the journal over it.
+ * <p>
+ * Every snapshot written by this class records a generation number, and the first line of the journal names the
+ * generation its entries were recorded against. A journal of any other generation is ignored on load: it is left
+ * over from a compaction cut short by a crash after the new snapshot was written, which already holds its entries.
+ * A final journal line cut short by a crash is ignored too.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    /** Journals larger than this many bytes are compacted into the snapshot. */
+    public static final long DEFAULT_COMPACTION_THRESHOLD_BYTES = 1 << 20;
+
+    /** The generation of a snapshot or journal that does not name one. */
+    private static final long NO_GENERATION = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final JsonAddressBookStorage snapshotStorage;
+    private final long compactionThresholdBytes;
+    private final boolean forceToDisk;
+
+    // The persons as last saved or loaded, by ID in list order, or null if that is unknown and the next save must
+    // compact
+    private LinkedHashMap<Long, Person> savedPersons;
+    private long generation = NO_GENERATION;
+    private long journalBytes;
+    private long bytesWritten;
+    private long journalEntryCount;
+    private long compactionCount;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD_BYTES, false);
+    }
+
+    /**
+     * Creates a storage whose snapshot is at {@code filePath}, compacting once the journal is larger than
+     * {@code compactionThresholdBytes}.
+     *
+     * @param forceToDisk whether each save waits until the snapshot or journal is on the storage device.
+     */
+    public JournalAddressBookStorage(Path filePath, long compactionThresholdBytes, boolean forceToDisk) {
+        requireNonNull(filePath);
+        checkArgument(compactionThresholdBytes >= 0, "Compaction threshold must be non-negative.");
+        this.filePath = filePath;
+        this.journalPath = getJournalPath(filePath);
+        this.snapshotStorage = new JsonAddressBookStorage(filePath, forceToDisk);
+        this.compactionThresholdBytes = compactionThresholdBytes;
+        this.forceToDisk = forceToDisk;
+    }
+
+    /**
+     * Returns where the journal for the snapshot at {@code filePath} is kept.
+     */
+    public static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".journal");
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}. Files other than this storage's own are read as plain json.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return snapshotStorage.readAddressBook(filePath);
+        }
+
+        generation = NO_GENERATION;
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath,
+                snapshotGeneration -> generation = snapshotGeneration);
+        if (snapshot.isEmpty() || generation == NO_GENERATION || !Files.exists(journalPath)) {
+            // the snapshot was not written by this class, so its persons' IDs are not known to be stable yet
+            forgetSavedPersons();
+            return snapshot;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+            journalBytes = Files.size(journalPath);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        journalEntryCount = 0;
+        if (lines.isEmpty() || readGeneration(lines.get(0)) != generation) {
+            logger.info("Ignoring " + journalPath + ", which was recorded against an earlier snapshot");
+            forgetSavedPersons();
+            return snapshot;
+        }
+
+        LinkedHashMap<Long, Person> persons = new LinkedHashMap<>();
+        snapshot.get().getPersonList().forEach(person -> persons.put(person.getId(), person));
+        boolean isComplete = replayJournal(lines, persons);
+
+        AddressBook addressBook;
+        try {
+            addressBook = JsonSerializableAddressBook.toAddressBook(new ArrayList<>(persons.values()));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        savedPersons = isComplete ? persons : null;
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Applies every entry in the journal {@code lines}, after the header, to {@code persons}.
+     *
+     * @return false if the last line was cut short, so the journal must be rewritten before it is appended to.
+     * @throws DataLoadingException if any other line is invalid.
+     */
+    private boolean replayJournal(List<String> lines, Map<Long, Person> persons) throws DataLoadingException {
+        for (int i = 1; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last entry in " + journalPath);
+                    return false;
+                }
+                throw new DataLoadingException(e);
+            }
+            try {
+                entry.applyTo(persons);
+            } catch (IllegalValueException e) {
+                logger.info("Illegal values found in " + journalPath + ": " + e.getMessage());
+                throw new DataLoadingException(e);
+            }
+            journalEntryCount++;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the generation named by the journal header {@code line}, or {@code NO_GENERATION} if it is not a header.
+     */
+    private static long readGeneration(String line) {
+        try {
+            return JsonUtil.fromJsonString(line, JsonAdaptedJournalHeader.class).getGeneration();
+        } catch (IOException e) {
+            return NO_GENERATION;
+        }
+    }
+
+    /**
+     * Returns the generation named by the journal on disk, or {@code NO_GENERATION} if there is none.
+     */
+    private long readJournalGeneration() throws IOException {
+        if (!Files.exists(journalPath)) {
+            return NO_GENERATION;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            return header == null ? NO_GENERATION : readGeneration(header);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}. Files other than this storage's own are written as
+     * plain json.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        Map<Long, Person> personsById = savedPersons == null ? null : indexById(persons);
+        List<Person> changedPersons = personsById == null ? null : getChangedPersons(persons);
+        if (changedPersons == null) {
+            compact(addressBook);
+            return;
+        }
+        List<Long> removedIds = getRemovedIds(personsById);
+        int entryCount = changedPersons.size() + removedIds.size();
+        if (entryCount > persons.size() / 2) {
+            // a change this large is as cheap to save in full
+            compact(addressBook);
+            return;
+        }
+        if (entryCount == 0) {
+            return;
+        }
+
+        // removals go first, so a batch cut short never holds a person together with the one they replaced
+        StringBuilder lines = new StringBuilder();
+        for (long id : removedIds) {
+            lines.append(JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.remove(id))).append('\n');
+        }
+        for (Person person : changedPersons) {
+            lines.append(JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.put(person))).append('\n');
+        }
+        byte[] bytes = lines.toString().getBytes(StandardCharsets.UTF_8);
+        try {
+            appendToJournal(bytes);
+        } catch (IOException e) {
+            // part of a line may have been written, so nothing more can be appended after it
+            forgetSavedPersons();
+            throw e;
+        }
+        journalBytes += bytes.length;
+        bytesWritten += bytes.length;
+        journalEntryCount += entryCount;
+        // the same changes replaying the journal makes, so only the changed persons are touched
+        removedIds.forEach(savedPersons::remove);
+        changedPersons.forEach(person -> savedPersons.put(person.getId(), person));
+
+        if (journalBytes > compactionThresholdBytes) {
+            compact(addressBook);
+        }
+    }
+
+    /**
+     * Returns {@code persons} by ID, or null if any of them has no ID or shares one.
+     */
+    private static Map<Long, Person> indexById(List<Person> persons) {
+        Map<Long, Person> personsById = new HashMap<>(persons.size() * 2);
+        for (Person person : persons) {
+            if (!person.hasId() || personsById.put(person.getId(), person) != null) {
+                return null;
+            }
+        }
+        return personsById;
+    }
+
+    /**
+     * Returns the persons in {@code persons} that were added or changed since they were saved, or null if replaying
+     * entries for them would not reproduce the order of {@code persons}.
+     * Persons are compared by reference first, so unchanged persons cost no more than a map lookup.
+     */
+    private List<Person> getChangedPersons(List<Person> persons) {
+        List<Person> changedPersons = new ArrayList<>();
+        Iterator<Long> savedIds = savedPersons.keySet().iterator();
+        boolean hasAddedPerson = false;
+        for (Person person : persons) {
+            Person saved = savedPersons.get(person.getId());
+            if (saved == null) {
+                hasAddedPerson = true;
+                changedPersons.add(person);
+                continue;
+            }
+            // kept persons must stay in their saved order, ahead of every added person
+            if (hasAddedPerson || !skipTo(savedIds, person.getId())) {
+                return null;
+            }
+            if (saved != person && !saved.equals(person)) {
+                changedPersons.add(person);
+            }
+        }
+        return changedPersons;
+    }
+
+    /**
+     * Advances {@code ids} past {@code id}, returning false if {@code id} is not among the remaining ones.
+     */
+    private static boolean skipTo(Iterator<Long> ids, long id) {
+        while (ids.hasNext()) {
+            if (ids.next() == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the IDs of the saved persons missing from {@code personsById}.
+     */
+    private List<Long> getRemovedIds(Map<Long, Person> personsById) {
+        List<Long> removedIds = new ArrayList<>();
+        for (Long id : savedPersons.keySet()) {
+            if (!personsById.containsKey(id)) {
+                removedIds.add(id);
+            }
+        }
+        return removedIds;
+    }
+
+    /**
+     * Rewrites the snapshot as {@code addressBook} under a new generation, then replaces the journal with an empty
+     * one of that generation. The journal is only replaced once the snapshot has been renamed into place, and both
+     * replacements are atomic and, if {@code forceToDisk}, on the storage device before this returns.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        // if this fails partway, the journal may no longer match the snapshot, so the next save must compact again
+        forgetSavedPersons();
+        // the new generation must differ from the journal on disk, which may be left behind if this is cut short
+        long newGeneration = Math.max(generation, readJournalGeneration()) + 1;
+        snapshotStorage.saveAddressBook(addressBook, filePath, newGeneration);
+        generation = newGeneration;
+        String header = JsonUtil.toCompactJsonString(new JsonAdaptedJournalHeader(newGeneration)) + "\n";
+        replaceJournal(header);
+        long headerBytes = header.getBytes(StandardCharsets.UTF_8).length;
+        bytesWritten += Files.size(filePath) + headerBytes;
+        journalBytes = headerBytes;
+        journalEntryCount = 0;
+        compactionCount++;
+
+        List<Person> persons = addressBook.getPersonList();
+        savedPersons = new LinkedHashMap<>(persons.size() * 2);
+        for (Person person : persons) {
+            savedPersons.put(person.getId(), person);
+        }
+    }
+
+    /**
+     * Appends {@code bytes} to the journal.
+     */
+    void appendToJournal(byte[] bytes) throws IOException {
+        FileUtil.appendToFile(journalPath, bytes, forceToDisk);
+    }
+
+    /**
+     * Replaces the contents of the journal with {@code contents}, atomically.
+     */
+    void replaceJournal(String contents) throws IOException {
+        FileUtil.writeToFile(journalPath, contents, forceToDisk);
+    }
+
+    private void forgetSavedPersons() {
+        savedPersons = null;
+    }
+
+    /**
+     * Returns the number of bytes this storage has written to its own snapshot and journal.
+     */
+    public synchronized long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Returns the number of entries in the journal.
+     */
+    public synchronized long getJournalEntryCount() {
+        return journalEntryCount;
+    }
+
+    /**
+     * Returns the number of times the snapshot has been rewritten.
+     */
+    public synchronized long getCompactionCount() {
+        return compactionCount;
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.storage;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of one change recorded in the address book journal: either a person stored under their ID,
+ * replacing any person already stored there, or the removal of the person with an ID.
+ * Applying an entry twice has the same effect as applying it once.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry must either put a person or remove an ID.";
+    public static final String MESSAGE_MISSING_ID = "Journal entry puts a person without an ID.";
+
+    private final JsonAdaptedPerson put;
+    private final Long remove;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("put") JsonAdaptedPerson put, @JsonProperty("remove") Long remove) {
+        this.put = put;
+        this.remove = remove;
+    }
+
+    /**
+     * Returns an entry that stores {@code person} under their ID.
+     */
+    public static JsonAdaptedJournalEntry put(Person person) {
+        return new JsonAdaptedJournalEntry(new JsonAdaptedPerson(person), null);
+    }
+
+    /**
+     * Returns an entry that removes the person with ID {@code id}.
+     */
+    public static JsonAdaptedJournalEntry remove(long id) {
+        return new JsonAdaptedJournalEntry(null, id);
+    }
+
+    /**
+     * Applies this entry to {@code persons}, which maps IDs to persons in list order.
+     * A person put under a new ID goes to the end of the order; one put under an existing ID keeps its place.
+     *
+     * @throws IllegalValueException if this entry is malformed or puts an invalid person.
+     */
+    public void applyTo(Map<Long, Person> persons) throws IllegalValueException {
+        if ((put == null) == (remove == null)) {
+            throw new IllegalValueException(MESSAGE_INVALID_ENTRY);
+        }
+        if (remove != null) {
+            persons.remove(remove);
+            return;
+        }
+        Person person = put.toModelType();
+        if (!person.hasId()) {
+            throw new IllegalValueException(MESSAGE_MISSING_ID);
+        }
+        persons.put(person.getId(), person);
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the first line of the address book journal, naming the generation of the snapshot the
+ * journal's entries were recorded against.
+ */
+class JsonAdaptedJournalHeader {
+
+    private final Long generation;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalHeader} for the snapshot of generation {@code generation}.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalHeader(@JsonProperty("generation") Long generation) {
+        this.generation = generation;
+    }
+
+    /**
+     * Returns the generation of the snapshot the journal belongs to, or -1 if the header names none.
+     */
+    public long getGeneration() {
+        return generation == null ? -1 : generation;
+    }
+}
@@ -65,7 +65,7 @@ class JsonAdaptedLesson {
         if (!LessonName.isValidLessonName(lessonName)) {
             throw new IllegalValueException(LessonName.MESSAGE_CONSTRAINTS);
         }
-        final LessonName modelLessonName = new LessonName(lessonName);
+        final LessonName modelLessonName = LessonName.of(lessonName);
 
         if (date == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Date.class.getSimpleName()));
@@ -73,7 +73,7 @@ class JsonAdaptedLesson {
         if (!Date.isValidDate(date)) {
             throw new IllegalValueException(Date.MESSAGE_CONSTRAINTS);
         }
-        final Date modelDate = new Date(date);
+        final Date modelDate = Date.of(date);
 
         if (time == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Time.class.getSimpleName()));
@@ -90,7 +90,7 @@ class JsonAdaptedLesson {
         if (!Location.isValidLocation(location)) {
             throw new IllegalValueException(Location.MESSAGE_CONSTRAINTS);
         }
-        final Location modelLocation = new Location(location);
+        final Location modelLocation = Location.of(location);
 
         if (attendance == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
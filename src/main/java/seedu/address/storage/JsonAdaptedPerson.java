@@ -27,6 +27,7 @@ class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    private final Long id;
     private final String name;
     private final String phone;
     private final String email;
@@ -39,10 +40,11 @@ class JsonAdaptedPerson {
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
-            @JsonProperty("email") String email, @JsonProperty("address") String address,
-            @JsonProperty("tags") List<JsonAdaptedTag> tags, @JsonProperty("lesson") JsonAdaptedLesson lesson,
-            @JsonProperty("finance") JsonAdaptedFinance finance) {
+    public JsonAdaptedPerson(@JsonProperty("id") Long id, @JsonProperty("name") String name,
+            @JsonProperty("phone") String phone, @JsonProperty("email") String email,
+            @JsonProperty("address") String address, @JsonProperty("tags") List<JsonAdaptedTag> tags,
+            @JsonProperty("lesson") JsonAdaptedLesson lesson, @JsonProperty("finance") JsonAdaptedFinance finance) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -58,6 +60,7 @@ class JsonAdaptedPerson {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.hasId() ? source.getId() : null;
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -130,8 +133,11 @@ class JsonAdaptedPerson {
             modelLesson = Optional.of(lesson.toModelType());
         }
 
-        return new Person(modelName, modelPhone, modelEmail, modelAddress,
+        Person person = new Person(modelName, modelPhone, modelEmail, modelAddress,
                 modelTags, modelLesson, modelFinance);
+
+        // A missing or out-of-range ID is left unassigned; the address book gives the person a fresh one
+        return id == null || !Person.isValidId(id) ? person : person.withId(id);
     }
 
 }
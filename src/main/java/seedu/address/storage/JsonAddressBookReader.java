@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads an address book from a json file in the format written by {@link JsonSerializableAddressBook}, one person at
+ * a time.
+ * Each element of the {@code persons} array is converted to a {@code Person} as soon as it is parsed, so neither the
+ * file's text nor the full list of Jackson-friendly persons is ever held in memory; at its peak, loading holds little
+ * more than the persons being loaded.
+ */
+class JsonAddressBookReader {
+
+    public static final String MESSAGE_NOT_AN_OBJECT = "Address book file must contain a json object.";
+
+    private static final String PERSONS_FIELD = "persons";
+
+    /**
+     * Returns the address book in the json file at {@code filePath}, skipping persons with invalid fields.
+     *
+     * @throws IOException if the file cannot be read or is not valid json.
+     * @throws IllegalValueException if the file contains duplicate persons.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        return read(filePath, journalGeneration -> { });
+    }
+
+    /**
+     * Similar to {@link #read(Path)}, also passing the file's journal generation, if it has one, to
+     * {@code journalGenerationHandler}.
+     */
+    static AddressBook read(Path filePath, LongConsumer journalGenerationHandler)
+            throws IOException, IllegalValueException {
+        List<Person> persons = new ArrayList<>();
+        try (InputStream in = Files.newInputStream(filePath); JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_AN_OBJECT);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (PERSONS_FIELD.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                    readPersons(parser, persons);
+                } else if (JsonSerializableAddressBook.JOURNAL_GENERATION_FIELD.equals(fieldName)
+                        && value == JsonToken.VALUE_NUMBER_INT) {
+                    journalGenerationHandler.accept(parser.getLongValue());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return JsonSerializableAddressBook.toAddressBook(persons);
+    }
+
+    /**
+     * Converts every element of the array the parser is at, adding the valid persons to {@code persons}.
+     */
+    private static void readPersons(JsonParser parser, List<Person> persons) throws IOException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            JsonAdaptedPerson jsonAdaptedPerson = JsonUtil.readValue(parser, JsonAdaptedPerson.class);
+            JsonSerializableAddressBook.addIfValid(jsonAdaptedPerson, persons);
+        }
+    }
+}
@@ -3,8 +3,10 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.LongConsumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -22,9 +24,20 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean forceToDisk;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath}.
+     *
+     * @param forceToDisk whether each save waits until the file is on the storage device.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean forceToDisk) {
         this.filePath = filePath;
+        this.forceToDisk = forceToDisk;
     }
 
     public Path getAddressBookFilePath() {
@@ -43,16 +56,27 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      * @throws DataLoadingException if loading the data from storage failed.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readAddressBook(filePath, journalGeneration -> { });
+    }
+
+    /**
+     * Similar to {@link #readAddressBook(Path)}, also passing the file's journal generation, if it has one, to
+     * {@code journalGenerationHandler}.
+     */
+    Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, LongConsumer journalGenerationHandler)
+            throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
+        // persons are converted as they are parsed, instead of reading the whole file and then converting it
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return Optional.of(JsonAddressBookReader.read(filePath, journalGenerationHandler));
+        } catch (IOException e) {
+            logger.warning("Error reading from address book file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -70,11 +94,19 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      * @param filePath location of the data. Cannot be null.
      */
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        saveAddressBook(addressBook, filePath, null);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook, Path)}, recording {@code journalGeneration} as the
+     * generation of the journal that may be replayed over the saved file.
+     */
+    void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath, Long journalGeneration) throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook, journalGeneration), filePath, forceToDisk);
     }
 
 }
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
@@ -12,6 +13,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -20,15 +22,23 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_PERSON_DETAILS = MESSAGE_DUPLICATE_PERSON + " Duplicates: %1$s";
+
+    static final String JOURNAL_GENERATION_FIELD = "journalGeneration";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long journalGeneration;
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons.
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons and the generation of the journal that
+     * may be replayed over them, if any.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+            @JsonProperty(JOURNAL_GENERATION_FIELD) Long journalGeneration) {
         this.persons.addAll(persons);
+        this.journalGeneration = journalGeneration;
     }
 
     /**
@@ -37,27 +47,55 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        this(source, null);
+    }
+
+    /**
+     * Similar to {@link #JsonSerializableAddressBook(ReadOnlyAddressBook)}, recording the generation of the journal
+     * that may be replayed over {@code source}.
+     */
+    public JsonSerializableAddressBook(ReadOnlyAddressBook source, Long journalGeneration) {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        this.journalGeneration = journalGeneration;
     }
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * All persons are converted first and then bulk-loaded in one pass.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated, listing every duplicate person.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        List<Person> modelPersons = new ArrayList<>(persons.size());
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person;
-            try {
-                person = jsonAdaptedPerson.toModelType();
-            } catch (IllegalValueException e) {
-                continue;
-            }
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+            addIfValid(jsonAdaptedPerson, modelPersons);
+        }
+        return toAddressBook(modelPersons);
+    }
+
+    /**
+     * Converts {@code jsonAdaptedPerson} and adds it to {@code modelPersons}, unless any of its fields are invalid.
+     */
+    static void addIfValid(JsonAdaptedPerson jsonAdaptedPerson, List<Person> modelPersons) {
+        try {
+            modelPersons.add(jsonAdaptedPerson.toModelType());
+        } catch (IllegalValueException e) {
+            // persons with invalid fields are skipped rather than failing the whole load
+        }
+    }
+
+    /**
+     * Bulk-loads {@code modelPersons} into a new {@code AddressBook} in one pass.
+     *
+     * @throws IllegalValueException if {@code modelPersons} contains duplicates, listing every duplicate person.
+     */
+    static AddressBook toAddressBook(List<Person> modelPersons) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(modelPersons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_PERSON_DETAILS,
+                    DuplicatePersonException.describe(e.getDuplicates())));
         }
         return addressBook;
     }
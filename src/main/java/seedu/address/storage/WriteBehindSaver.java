@@ -0,0 +1,184 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address book snapshots on a background thread, so callers never wait on disk I/O.
+ * Only the latest snapshot waiting to be written is kept: a snapshot submitted while another is still waiting
+ * replaces it, so a burst of changes becomes a single write. Writes start at most once per interval.
+ * A snapshot whose write fails keeps waiting until it is written by a flush or replaced by a newer one.
+ * Snapshots must not change after they are submitted.
+ */
+public class WriteBehindSaver implements AutoCloseable {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final AddressBookStorage storage;
+    private final long intervalNanos;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Consumer<IOException> errorHandler = error -> { };
+
+    // Guarded by this
+    private ReadOnlyAddressBook pending;
+    private boolean writeScheduled;
+    private long lastWriteStartNanos;
+    private boolean hasWritten;
+    private long writeCount;
+    private long coalescedCount;
+    private long totalWriteNanos;
+    private long maxWriteNanos;
+    private IOException lastWriteError;
+
+    /**
+     * Creates a saver that writes to {@code storage}, starting at most one write every {@code intervalMillis}.
+     */
+    public WriteBehindSaver(AddressBookStorage storage, long intervalMillis) {
+        requireNonNull(storage);
+        checkArgument(intervalMillis >= 0, "Interval must be non-negative.");
+        this.storage = storage;
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+    }
+
+    /**
+     * Sets the handler told about every failed write. It is called on the saver's thread.
+     */
+    public void setErrorHandler(Consumer<IOException> errorHandler) {
+        this.errorHandler = requireNonNull(errorHandler);
+    }
+
+    /**
+     * Queues {@code snapshot} to be written, replacing any snapshot still waiting. Returns without waiting.
+     */
+    public synchronized void submit(ReadOnlyAddressBook snapshot) {
+        requireNonNull(snapshot);
+        if (pending != null) {
+            coalescedCount++;
+        }
+        pending = snapshot;
+        if (writeScheduled) {
+            return;
+        }
+        writeScheduled = true;
+        long delayNanos = hasWritten ? Math.max(0, lastWriteStartNanos + intervalNanos - System.nanoTime()) : 0;
+        executor.schedule(this::writePending, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Writes the waiting snapshot, if any, and waits until it is written.
+     *
+     * @throws IOException if the most recent write failed, so the saved address book is out of date.
+     */
+    public void flush() throws IOException {
+        try {
+            executor.submit(this::writePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving the address book", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        synchronized (this) {
+            if (lastWriteError != null) {
+                throw lastWriteError;
+            }
+        }
+    }
+
+    /**
+     * Writes the waiting snapshot, if any, then stops the saver's thread.
+     *
+     * @throws IOException if the most recent write failed, so the saved address book is out of date.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Returns the number of snapshots written.
+     */
+    public synchronized long getWriteCount() {
+        return writeCount;
+    }
+
+    /**
+     * Returns the number of snapshots replaced by a newer one before they were written.
+     */
+    public synchronized long getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    /**
+     * Returns the total time spent on successful writes, in nanoseconds.
+     */
+    public synchronized long getTotalWriteNanos() {
+        return totalWriteNanos;
+    }
+
+    /**
+     * Returns the longest time a single successful write took, in nanoseconds.
+     */
+    public synchronized long getMaxWriteNanos() {
+        return maxWriteNanos;
+    }
+
+    /**
+     * Writes the waiting snapshot, if any. Runs only on the saver's thread.
+     */
+    private void writePending() {
+        ReadOnlyAddressBook snapshot;
+        synchronized (this) {
+            snapshot = pending;
+            pending = null;
+            writeScheduled = false;
+            if (snapshot == null) {
+                return;
+            }
+            lastWriteStartNanos = System.nanoTime();
+            hasWritten = true;
+        }
+        try {
+            long writeStart = System.nanoTime();
+            storage.saveAddressBook(snapshot);
+            long writeNanos = System.nanoTime() - writeStart;
+            synchronized (this) {
+                writeCount++;
+                totalWriteNanos += writeNanos;
+                maxWriteNanos = Math.max(maxWriteNanos, writeNanos);
+                lastWriteError = null;
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to save address book: " + StringUtil.getDetails(e));
+            synchronized (this) {
+                lastWriteError = e;
+                if (pending == null) {
+                    // kept waiting, so the next flush, such as the one on close, tries it again
+                    pending = snapshot;
+                }
+            }
+            errorHandler.accept(e);
+        }
+    }
+}
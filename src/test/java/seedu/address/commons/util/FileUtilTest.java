@@ -1,13 +1,31 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +38,62 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacesContentsWithoutLeftovers() throws IOException {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old contents that are longer");
+        FileUtil.writeToFile(file, "new", true);
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals(List.of(file), listFolder());
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    public void writeToFile_existingFile_keepsPermissions() throws IOException {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old");
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+        Files.setPosixFilePermissions(file, permissions);
+
+        FileUtil.writeToFile(file, "new");
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    public void writeToFile_symbolicLink_writesThroughLink() throws IOException {
+        Path target = Files.createDirectory(testFolder.resolve("real")).resolve("data.json");
+        FileUtil.writeToFile(target, "old");
+        Path link = Files.createSymbolicLink(testFolder.resolve("data.json"), target);
+
+        FileUtil.writeToFile(link, "new", true);
+        assertTrue(Files.isSymbolicLink(link));
+        assertEquals("new", FileUtil.readFromFile(target));
+        try (Stream<Path> files = Files.list(target.getParent())) {
+            assertEquals(List.of(target), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void writeToFile_missingFolder_throwsIoException() {
+        Path file = testFolder.resolve("missing").resolve("data.json");
+        assertThrows(IOException.class, () -> FileUtil.writeToFile(file, "contents"));
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void appendToFile_appendsAfterExistingContents() throws IOException {
+        Path file = testFolder.resolve("journal");
+        FileUtil.appendToFile(file, "first\n".getBytes(StandardCharsets.UTF_8), false);
+        FileUtil.appendToFile(file, "second\n".getBytes(StandardCharsets.UTF_8), true);
+
+        assertEquals("first\nsecond\n", FileUtil.readFromFile(file));
+    }
+
+    private List<Path> listFolder() throws IOException {
+        try (Stream<Path> files = Files.list(testFolder)) {
+            return files.collect(Collectors.toList());
+        }
+    }
 }
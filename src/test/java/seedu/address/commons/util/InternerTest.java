@@ -0,0 +1,43 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+
+public class InternerTest {
+
+    private final Interner<Tag> interner = new Interner<>(Tag::new, tag -> tag.tagName);
+
+    @Test
+    public void intern_equalText_returnsSameInstance() {
+        Tag tag = interner.intern(new String("friends"));
+        assertSame(tag, interner.intern(new String("friends")));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_distinctText_returnsDistinctValues() {
+        // hold every result so none of the weakly held values can be collected mid-test
+        Set<Tag> tags = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < 100; i++) {
+            tags.add(interner.intern("tag" + (i % 10)));
+        }
+        assertEquals(10, tags.size());
+        assertEquals(10, interner.size());
+    }
+
+    @Test
+    public void intern_invalidText_nothingCached() {
+        assertThrows(IllegalArgumentException.class, () -> interner.intern("peter*"));
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+        assertEquals(0, interner.size());
+    }
+}
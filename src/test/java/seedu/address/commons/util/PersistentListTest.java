@@ -0,0 +1,81 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty() {
+        PersistentList<String> list = PersistentList.empty();
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.size());
+        assertEquals(List.of(), list.toList());
+    }
+
+    @Test
+    public void copyOf_elements_keepsOrder() {
+        List<Integer> elements = List.of(1, 2, 3, 4, 5, 6, 7);
+        PersistentList<Integer> list = PersistentList.copyOf(elements);
+        assertEquals(elements, list.toList());
+        assertEquals(Integer.valueOf(4), list.get(3));
+    }
+
+    @Test
+    public void updates_leaveOriginalUnchanged() {
+        PersistentList<String> original = PersistentList.copyOf(List.of("a", "b", "c"));
+        PersistentList<String> updated = original.set(1, "x").insert(0, "y").remove(3).append("z");
+        assertEquals(List.of("a", "b", "c"), original.toList());
+        assertEquals(List.of("y", "a", "x", "z"), updated.toList());
+    }
+
+    @Test
+    public void randomUpdates_matchArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 5000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list = list.insert(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                list = list.set(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.remove(index);
+            }
+        }
+        assertEquals(expected, list.toList());
+    }
+
+    @Test
+    public void append_manyElements_staysBalanced() {
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 100_000; i++) {
+            list = list.append(i);
+        }
+        assertEquals(100_000, list.size());
+        // an AVL tree of n nodes is at most about 1.44 log2(n) high
+        assertTrue(list.height() <= 25);
+    }
+
+    @Test
+    public void get_outOfRange_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.insert(2, "b"));
+    }
+}
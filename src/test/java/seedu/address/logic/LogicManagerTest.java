@@ -2,6 +2,7 @@ package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -16,6 +17,7 @@ import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,6 +27,8 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.AddressBook;
@@ -36,6 +40,7 @@ import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindSaver;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
@@ -75,6 +80,76 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_EMPTY_LIST, model);
     }
 
+    @Test
+    public void execute_unchangedAddressBook_skipsSave() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+
+        // the first command saves whatever was loaded; later read-only commands have nothing to save
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, logicManager.getSaveCount());
+        assertEquals(2, logicManager.getSkippedSaveCount());
+
+        logicManager.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY);
+        logicManager.execute(UndoCommand.COMMAND_WORD);
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertEquals(3, logicManager.getSaveCount());
+        assertEquals(3, logicManager.getSkippedSaveCount());
+        assertTrue(logicManager.getMaxSaveNanos() <= logicManager.getTotalSaveNanos());
+        assertTrue(logicManager.getSaveLatencySummary().startsWith("3 saves, "));
+    }
+
+    @Test
+    public void execute_withWriteBehindSaver_savesInBackground() throws Exception {
+        Path filePath = temporaryFolder.resolve("backgroundAddressBook.json");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        try (WriteBehindSaver saver = new WriteBehindSaver(storage, 0)) {
+            logic = new LogicManager(model, storage, saver);
+            logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                    + ADDRESS_DESC_AMY);
+            saver.flush();
+            assertEquals(1, saver.getWriteCount());
+            assertTrue(saver.getMaxWriteNanos() <= saver.getTotalWriteNanos());
+            assertTrue(logic.getSaveLatencySummary().contains("; 1 background writes, "));
+        }
+        assertEquals(model.getAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_backgroundSaveFails_reportsErrorAndSavesAgain() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        AtomicReference<String> reportedError = new AtomicReference<>();
+
+        try (WriteBehindSaver saver = new WriteBehindSaver(storage, 0)) {
+            LogicManager logicManager = new LogicManager(model, storage, saver);
+            logicManager.setSaveErrorHandler(reportedError::set);
+
+            // the command succeeds; the failed save is reported afterwards
+            logicManager.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                    + ADDRESS_DESC_AMY);
+            assertThrows(IOException.class, saver::flush);
+            assertEquals(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()),
+                    reportedError.get());
+
+            // the unsaved change is handed to the saver again after the next command
+            logicManager.execute(ListCommand.COMMAND_WORD);
+            assertEquals(2, logicManager.getSaveCount());
+            assertThrows(IOException.class, saver::flush);
+        } catch (IOException e) {
+            // closing flushes again, which fails the same way
+        }
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -145,6 +220,24 @@ public class LogicManagerTest {
         assertEquals(typicalAddressBook, model.getAddressBook());
     }
 
+    @Test
+    public void importAddressBook_thenUndo_restoresDataBeforeImport() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY);
+        AddressBook beforeImport = new AddressBook(model.getAddressBook());
+
+        Path importFilePath = temporaryFolder.resolve("import.json");
+        ReadOnlyAddressBook typicalAddressBook = getTypicalAddressBook();
+        new JsonAddressBookStorage(importFilePath).saveAddressBook(typicalAddressBook, importFilePath);
+        logic.importAddressBook(importFilePath);
+
+        // the import is its own version, so undo goes back to just before it and redo brings it back
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(beforeImport, model.getAddressBook());
+        logic.execute(RedoCommand.COMMAND_WORD);
+        assertEquals(typicalAddressBook, model.getAddressBook());
+    }
+
     @Test
     public void importAddressBook_emptyAddressBook_success() throws Exception {
         // Add a person to the model first
@@ -345,5 +438,8 @@ public class LogicManagerTest {
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+
+        // the unsaved change is saved again after the next command, even one that changes nothing
+        assertCommandFailure(ListCommand.COMMAND_WORD, CommandException.class, expectedMessage, expectedModel);
     }
 }
@@ -8,9 +8,15 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -21,8 +27,11 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.Page;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.AnalyticsSnapshot;
+import seedu.address.model.person.PaymentRecord;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.PersonBuilder;
 
@@ -99,6 +108,26 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyUserPrefs getUserPrefs() {
             throw new AssertionError("This method should not be called.");
@@ -139,6 +168,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyAddressBook getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -164,11 +203,101 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void sortFilteredPersonList(Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setFilteredPersonListPage(Page page) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getMatchingPersonCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Optional<Person> findPersonByName(String name) {
             return Optional.empty();
         }
 
+        @Override
+        public List<Person> findPersonsByNamePrefix(String prefix) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersonsByNameKeywords(Collection<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersonsByTagKeywords(Collection<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getOutstandingPersons(Page page) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getTopDebtors(Page page) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getDebtorsOwingBetween(long minCents, long maxCents) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getTotalOwedCents() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasLessons() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsWithLessonsOn(DayOfWeek day) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Iterable<PaymentRecord> getPaymentsNewestFirst() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Iterable<PaymentRecord> getPaymentsBetween(LocalDate start, LocalDate end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Person> getPersonById(long id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setPersonById(long id, Person editedPerson) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deletePersonById(long id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AnalyticsSnapshot getAnalyticsSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
     }
 
     /**
@@ -195,6 +324,11 @@ public class AddCommandTest {
     private class ModelStubAcceptingPersonAdded extends ModelStub {
         final ArrayList<Person> personsAdded = new ArrayList<>();
 
+        @Override
+        public void commitAddressBook() {
+            // called after a successful add; nothing to record
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             requireNonNull(person);
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.Page;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
 
@@ -75,7 +76,8 @@ public class FindTagCommandTest {
     public void toStringMethod() {
         TagContainsKeywordsPredicate predicate = new TagContainsKeywordsPredicate(Arrays.asList("keyword"));
         FindTagCommand findCommand = new FindTagCommand(predicate);
-        String expected = FindTagCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindTagCommand.class.getCanonicalName() + "{predicate=" + predicate
+                + ", page=" + Page.ALL + "}";
         assertEquals(expected, findCommand.toString());
     }
 
@@ -1,15 +1,21 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.Page;
 import seedu.address.model.UserPrefs;
 
 /**
@@ -36,4 +42,26 @@ public class ListCommandTest {
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
         assertCommandSuccess(new ListCommand(), model, ListCommand.MESSAGE_SUCCESS, expectedModel);
     }
+
+    @Test
+    public void execute_page_showsOnlyThatPage() {
+        int total = model.getFilteredPersonList().size();
+        CommandResult result = new ListCommand(new Page(2, 3)).execute(model);
+        assertEquals(String.format(Messages.MESSAGE_PERSONS_PAGE_OVERVIEW, total, 3, 5), result.getFeedbackToUser());
+        assertEquals(getTypicalPersons().subList(2, 5), model.getFilteredPersonList());
+
+        result = new ListCommand(new Page(total, 3)).execute(model);
+        assertEquals(String.format(Messages.MESSAGE_PERSONS_PAGE_EMPTY, total, total), result.getFeedbackToUser());
+        assertTrue(model.getFilteredPersonList().isEmpty());
+
+        // listing without a page shows everyone again
+        new ListCommand().execute(model);
+        assertEquals(total, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void equals() {
+        assertEquals(new ListCommand(), new ListCommand(Page.ALL));
+        assertNotEquals(new ListCommand(), new ListCommand(new Page(0, 5)));
+    }
 }
@@ -4,10 +4,16 @@ package seedu.address.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -15,14 +21,23 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Page;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
 import seedu.address.model.finance.Finance;
 import seedu.address.model.finance.FinanceAmount;
+import seedu.address.model.finance.PaymentEntry;
 import seedu.address.model.person.Address;
+import seedu.address.model.person.AnalyticsSnapshot;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.PaymentLedger;
+import seedu.address.model.person.PaymentRecord;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumns;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
 
@@ -85,6 +100,26 @@ public class PaymentHistoryCommandTest {
         int indexAlice20 = out.indexOf("Alice Pauline", indexAlice50 + 1);
     }
 
+    @Test
+    public void execute_filteredList_showsOnlyShownPersonsNewestFirst() throws CommandException {
+        Person alice = withFinance(personNamed("Alice Pauline"), new Finance(new FinanceAmount("0"), List.of(
+                new PaymentEntry(LocalDate.parse("2024-01-01"), LocalTime.parse("09:00"), new FinanceAmount("11")),
+                new PaymentEntry(LocalDate.parse("2024-03-01"), LocalTime.parse("09:00"), new FinanceAmount("33")))));
+        Person benson = withFinance(personNamed("Benson Meier"), new Finance(new FinanceAmount("0"), List.of(
+                new PaymentEntry(LocalDate.parse("2024-02-01"), LocalTime.parse("09:00"), new FinanceAmount("22")))));
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        model.addPerson(alice);
+        model.addPerson(new Person(benson.getName(), benson.getPhone(), new Email("b@b.com"), benson.getAddress(),
+                benson.getTags(), benson.getLesson(), benson.getFinance()));
+        model.updateFilteredPersonList(person -> person.getName().fullName.startsWith("Alice"));
+
+        String out = new PaymentHistoryCommand().execute(model).getFeedbackToUser();
+
+        assertFalse(out.contains("Benson Meier"));
+        assertTrue(out.indexOf("2024-03-01") < out.indexOf("2024-01-01"));
+        assertTrue(out.contains("Total paid: 44.00"));
+    }
+
     // -------- helpers --------
 
     private static Person personNamed(String name) {
@@ -116,9 +151,11 @@ public class PaymentHistoryCommandTest {
      */
     private static class ModelStubWithPersons implements Model {
         private final ObservableList<Person> list;
+        private final PaymentLedger ledger = new PaymentLedger();
 
         ModelStubWithPersons(List<Person> people) {
             this.list = FXCollections.observableArrayList(people);
+            ledger.setPersons(people);
         }
 
         // used by the command
@@ -147,6 +184,62 @@ public class PaymentHistoryCommandTest {
             return Optional.empty();
         }
 
+        @Override
+        public List<Person> findPersonsByNamePrefix(String prefix) {
+            return List.of();
+        }
+
+        @Override
+        public Set<Person> findPersonsByNameKeywords(Collection<String> keywords) {
+            return Set.of();
+        }
+
+        @Override
+        public Set<Person> findPersonsByTagKeywords(Collection<String> keywords) {
+            return Set.of();
+        }
+
+        @Override
+        public List<Person> getOutstandingPersons(Page page) {
+            return List.of();
+        }
+
+        @Override
+        public List<Person> getTopDebtors(Page page) {
+            return List.of();
+        }
+
+        @Override
+        public List<Person> getDebtorsOwingBetween(long minCents, long maxCents) {
+            return List.of();
+        }
+
+        @Override
+        public long getTotalOwedCents() {
+            return 0;
+        }
+
+        @Override
+        public boolean hasLessons() {
+            return false;
+        }
+
+        @Override
+        public List<Person> getPersonsWithLessonsOn(DayOfWeek day) {
+            return List.of();
+        }
+
+        // used by the command
+        @Override
+        public Iterable<PaymentRecord> getPaymentsNewestFirst() {
+            return ledger.newestFirst();
+        }
+
+        @Override
+        public Iterable<PaymentRecord> getPaymentsBetween(LocalDate start, LocalDate end) {
+            return ledger.between(start, end);
+        }
+
         // ---- Unused methods below: simple stubs to satisfy the interface ----
         @Override
         public void setAddressBook(ReadOnlyAddressBook addressBook) {
@@ -162,6 +255,16 @@ public class PaymentHistoryCommandTest {
             };
         }
 
+        @Override
+        public long getAddressBookModificationCount() {
+            return 0;
+        }
+
+        @Override
+        public ReadOnlyAddressBook getAddressBookSnapshot() {
+            return getAddressBook();
+        }
+
         @Override
         public void addPerson(Person person) {
         }
@@ -183,6 +286,19 @@ public class PaymentHistoryCommandTest {
         public void updateFilteredPersonList(java.util.function.Predicate<Person> predicate) {
         }
 
+        @Override
+        public void sortFilteredPersonList(Comparator<Person> comparator) {
+        }
+
+        @Override
+        public void setFilteredPersonListPage(Page page) {
+        }
+
+        @Override
+        public int getMatchingPersonCount() {
+            return 0;
+        }
+
         @Override
         public java.nio.file.Path getAddressBookFilePath() {
             return null;
@@ -203,5 +319,37 @@ public class PaymentHistoryCommandTest {
 
         @Override
         public void commitAddressBook() {}
+
+        @Override
+        public boolean canUndoAddressBook() {
+            return false;
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            return false;
+        }
+
+        @Override
+        public void undoAddressBook() {}
+
+        @Override
+        public void redoAddressBook() {}
+
+        @Override
+        public Optional<Person> getPersonById(long id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void setPersonById(long id, Person editedPerson) {}
+
+        @Override
+        public void deletePersonById(long id) {}
+
+        @Override
+        public AnalyticsSnapshot getAnalyticsSnapshot() {
+            return new PersonColumns().snapshot();
+        }
     }
 }
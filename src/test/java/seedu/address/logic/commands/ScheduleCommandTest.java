@@ -1,12 +1,17 @@
 //Generated with AI-assistance (ChatGPT)
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.AddressBook;
@@ -165,4 +170,51 @@ public class ScheduleCommandTest {
         assertTrue(out.contains("Science"), "Should show Science lesson.");
         assertTrue(out.contains("English"), "Should show English lesson.");
     }
+
+    @Test
+    public void execute_afterEditAndDelete_reflectsChanges() throws Exception {
+        Model model = emptyModel();
+        Person gus = withLesson("Gus", "Monday", "09:00", "Room A", "Math");
+        Person hana = withLesson("Hana", "Monday", "10:00", "Room B", "Science");
+        model.addPerson(gus);
+        model.addPerson(hana);
+
+        // Move Gus's lesson after Hana's, then remove Hana
+        model.setPerson(gus, withLesson("Gus", "Monday", "11:00", "Room A", "Math"));
+        String out = new ScheduleCommand().execute(model).getFeedbackToUser();
+        assertTrue(out.indexOf("[Hana]") < out.indexOf("[Gus]"), "Edited lesson should be re-ordered.");
+
+        model.deletePerson(hana);
+        out = new ScheduleCommand().execute(model).getFeedbackToUser();
+        assertFalse(out.contains("[Hana]"), "Deleted person's lesson should not be shown.");
+        assertTrue(out.contains(" 11:00 - [Gus]"), "Edited lesson time should be shown.");
+    }
+
+    @Test
+    public void execute_manyLessons_listsEveryLesson() throws Exception {
+        assertListsEveryLesson(50);
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void execute_fiftyThousandLessons_listsEveryLesson() throws Exception {
+        assertListsEveryLesson(50_000);
+    }
+
+    private void assertListsEveryLesson(int lessonCount) throws Exception {
+        String[] days = {"Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday", "Sunday"};
+        List<Person> persons = new ArrayList<>(lessonCount);
+        for (int i = 0; i < lessonCount; i++) {
+            String time = String.format("%02d:%02d", i % 24, i % 60);
+            persons.add(withLesson("Student " + i, days[i % days.length], time, "Room", "Math"));
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        Model model = new ModelManager(addressBook, new UserPrefs());
+
+        String out = new ScheduleCommand().execute(model).getFeedbackToUser();
+
+        // one header line, a blank line and a day line per day, and one line per lesson
+        assertEquals(1 + 2 * days.length + lessonCount, out.split("\n").length);
+    }
 }
@@ -0,0 +1,73 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.finance.Finance;
+import seedu.address.model.finance.FinanceAmount;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortKey;
+import seedu.address.testutil.PersonBuilder;
+
+public class SortCommandTest {
+
+    @Test
+    public void execute_sortByOwed_keepsOrderAcrossEdits() {
+        Model model = new ModelManager();
+        Person alice = owing(ALICE, "10");
+        Person benson = owing(BENSON, "30");
+        Person carl = owing(CARL, "20");
+        model.addPerson(alice);
+        model.addPerson(benson);
+        model.addPerson(carl);
+
+        CommandResult result = new SortCommand(PersonSortKey.OWED).execute(model);
+        assertEquals(String.format(SortCommand.MESSAGE_SUCCESS, "owed"), result.getFeedbackToUser());
+        assertEquals(List.of(benson, carl, alice), model.getFilteredPersonList());
+
+        Person richer = owing(ALICE, "50");
+        model.setPerson(alice, richer);
+        assertEquals(List.of(richer, benson, carl), model.getFilteredPersonList());
+
+        model.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Carl", "Alice")));
+        assertEquals(List.of(richer, carl), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_sortNone_restoresInsertionOrder() {
+        Model model = new ModelManager();
+        model.addPerson(CARL);
+        model.addPerson(ALICE);
+        new SortCommand(PersonSortKey.NAME).execute(model);
+        assertEquals(List.of(ALICE, CARL), model.getFilteredPersonList());
+
+        CommandResult result = new SortCommand(PersonSortKey.NONE).execute(model);
+        assertEquals(SortCommand.MESSAGE_UNSORTED, result.getFeedbackToUser());
+        assertEquals(List.of(CARL, ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        SortCommand sortByName = new SortCommand(PersonSortKey.NAME);
+        assertEquals(sortByName, sortByName);
+        assertEquals(sortByName, new SortCommand(PersonSortKey.NAME));
+        assertNotEquals(sortByName, new SortCommand(PersonSortKey.OWED));
+        assertFalse(sortByName.equals(null));
+        assertFalse(sortByName.equals(1));
+    }
+
+    private static Person owing(Person person, String amount) {
+        return new PersonBuilder(person).withFinance(new Finance(new FinanceAmount(amount))).build();
+    }
+}
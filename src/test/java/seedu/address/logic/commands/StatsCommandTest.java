@@ -0,0 +1,49 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.finance.Finance;
+import seedu.address.model.finance.FinanceAmount;
+import seedu.address.model.lesson.AttendanceStatus;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class StatsCommandTest {
+
+    @Test
+    public void execute_emptyAddressBook_showsZeroTotals() {
+        String output = new StatsCommand().execute(new ModelManager()).getFeedbackToUser();
+        assertTrue(output.contains("Students: 0"));
+        assertTrue(output.contains("Total outstanding: 0.00 (owed by 0 students)"));
+        assertTrue(output.contains("Attendance: 0/0 lessons attended\n"));
+    }
+
+    @Test
+    public void execute_afterChanges_reflectsCurrentBook() {
+        Model model = new ModelManager();
+        Person alice = new PersonBuilder(ALICE).withFinance(new Finance(new FinanceAmount("12.50")))
+                .withLesson("Math", "Monday", "09:00", "RoomA").build();
+        model.addPerson(alice);
+        model.addPerson(new PersonBuilder(BENSON).withFinance(new Finance(new FinanceAmount("0"))).build());
+        model.setPerson(alice, alice.markAttendance(AttendanceStatus.PRESENT));
+
+        String output = new StatsCommand().execute(model).getFeedbackToUser();
+        assertTrue(output.contains("Students: 2"));
+        assertTrue(output.contains("Total outstanding: 12.50 (owed by 1 students)"));
+        assertTrue(output.contains("Attendance: 1/1 lessons attended (100.0%)"));
+        assertTrue(output.contains("MONDAY 1 TUESDAY 0"));
+    }
+
+    @Test
+    public void equals() {
+        assertEquals(new StatsCommand(), new StatsCommand());
+    }
+}
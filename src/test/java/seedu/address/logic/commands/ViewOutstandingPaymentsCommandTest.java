@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.Page;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.finance.Finance;
 import seedu.address.model.finance.FinanceAmount;
@@ -167,6 +168,41 @@ public class ViewOutstandingPaymentsCommandTest {
                 false, false, true);
     }
 
+    @Test
+    public void execute_topWithOffset_showsRankedPageNumberedFromOffset() {
+        Person small = new PersonBuilder().withName("Gina").withPhone("97777777")
+                .withEmail("gina@example.com").withFinance(new Finance(new FinanceAmount("10"))).build();
+        Person large = new PersonBuilder().withName("Hank").withPhone("98888888")
+                .withEmail("hank@example.com").withFinance(new Finance(new FinanceAmount("90"))).build();
+        Person medium = new PersonBuilder().withName("Iris").withPhone("99999999")
+                .withEmail("iris@example.com").withFinance(new Finance(new FinanceAmount("40"))).build();
+        model.addPerson(small);
+        model.addPerson(large);
+        model.addPerson(medium);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        StringBuilder expected = new StringBuilder();
+        expected.append("2:").append("\n");
+        expected.append(medium.getName()).append("\n");
+        expected.append(medium.getEmail()).append("\n");
+        expected.append(medium.getPhone()).append("\n");
+        expected.append(medium.getFinance().get()).append("\n");
+
+        assertCommandSuccess(new ViewOutstandingPaymentsCommand(new Page(1, 1), true), model, expected.toString(),
+                expectedModel, false, false, true);
+        assertCommandSuccess(new ViewOutstandingPaymentsCommand(new Page(3, 1), false), model,
+                "No outstanding payments found.", expectedModel);
+    }
+
+    @Test
+    public void equals_differentPage_returnsFalse() {
+        assertFalse(new ViewOutstandingPaymentsCommand(new Page(0, 5), true)
+                .equals(new ViewOutstandingPaymentsCommand(new Page(0, 5), false)));
+        assertFalse(new ViewOutstandingPaymentsCommand(new Page(0, 5), true)
+                .equals(new ViewOutstandingPaymentsCommand()));
+    }
+
     @Test
     public void equals_sameObject_returnsTrue() {
         ViewOutstandingPaymentsCommand command = new ViewOutstandingPaymentsCommand();
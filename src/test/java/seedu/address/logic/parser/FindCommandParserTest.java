@@ -9,6 +9,7 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.Page;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 
 public class FindCommandParserTest {
@@ -31,4 +32,15 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_pageArgs_returnsPagedFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(
+                new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")), new Page(20, 10));
+        assertParseSuccess(parser, "Alice Bob offset/20 limit/10", expectedFindCommand);
+
+        assertParseFailure(parser, " offset/20", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "Alice limit/0", ParserUtil.MESSAGE_INVALID_LIMIT);
+    }
+
 }
@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.model.person.PersonSortKey;
+
+public class SortCommandParserTest {
+
+    private final SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_validKey_returnsSortCommand() {
+        assertParseSuccess(parser, " name", new SortCommand(PersonSortKey.NAME));
+        assertParseSuccess(parser, " Lesson ", new SortCommand(PersonSortKey.LESSON));
+    }
+
+    @Test
+    public void parse_invalidKey_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " phone", expectedMessage);
+        assertParseFailure(parser, " name owed", expectedMessage);
+    }
+}
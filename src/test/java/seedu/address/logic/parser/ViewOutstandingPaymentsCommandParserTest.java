@@ -7,6 +7,7 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSucces
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.ViewOutstandingPaymentsCommand;
+import seedu.address.model.Page;
 
 public class ViewOutstandingPaymentsCommandParserTest {
 
@@ -18,6 +19,21 @@ public class ViewOutstandingPaymentsCommandParserTest {
         assertParseSuccess(parser, "   \t  \n  ", new ViewOutstandingPaymentsCommand());
     }
 
+    @Test
+    public void parse_pageArgs_success() {
+        assertParseSuccess(parser, " top/20", new ViewOutstandingPaymentsCommand(new Page(0, 20), true));
+        assertParseSuccess(parser, " top/20 offset/40", new ViewOutstandingPaymentsCommand(new Page(40, 20), true));
+        assertParseSuccess(parser, " offset/5 limit/10",
+                new ViewOutstandingPaymentsCommand(new Page(5, 10), false));
+    }
+
+    @Test
+    public void parse_invalidPageArgs_failure() {
+        assertParseFailure(parser, " top/5 limit/5", ViewOutstandingPaymentsCommand.MESSAGE_TOP_AND_LIMIT);
+        assertParseFailure(parser, " top/0", ParserUtil.MESSAGE_INVALID_LIMIT);
+        assertParseFailure(parser, " offset/-1", ParserUtil.MESSAGE_INVALID_OFFSET);
+    }
+
     @Test
     public void parse_nonEmptyArgs_failure() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT,
@@ -0,0 +1,118 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookHistoryTest {
+
+    private static AddressBookVersion version(long newNodes) {
+        return new AddressBookVersion(PersistentList.empty(), newNodes);
+    }
+
+    @Test
+    public void undoRedo_movesBetweenVersions() {
+        AddressBookHistory history = new AddressBookHistory(10, Long.MAX_VALUE);
+        AddressBookVersion first = version(0);
+        AddressBookVersion second = version(1);
+        history.commit(first);
+        history.commit(second);
+
+        assertTrue(history.canUndo());
+        assertFalse(history.canRedo());
+        assertSame(first, history.undo());
+        assertTrue(history.canRedo());
+        assertSame(second, history.redo());
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedoVersions() {
+        AddressBookHistory history = new AddressBookHistory(10, Long.MAX_VALUE);
+        history.commit(version(0));
+        history.commit(version(1));
+        history.undo();
+        history.commit(version(1));
+        assertFalse(history.canRedo());
+        assertEquals(2, history.size());
+    }
+
+    @Test
+    public void commit_beyondDepth_discardsOldestVersions() {
+        AddressBookHistory history = new AddressBookHistory(2, Long.MAX_VALUE);
+        for (int i = 0; i < 5; i++) {
+            history.commit(version(1));
+        }
+        assertEquals(3, history.size());
+        history.undo();
+        history.undo();
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void commit_beyondMemoryBudget_discardsOldestVersions() {
+        long budget = 3 * AddressBookVersion.BYTES_PER_NODE;
+        AddressBookHistory history = new AddressBookHistory(100, budget);
+        history.commit(version(1000));
+        for (int i = 0; i < 5; i++) {
+            history.commit(version(1));
+        }
+        // the base version is not counted, so three single-node versions fit on top of it
+        assertEquals(4, history.size());
+    }
+
+    @Test
+    public void undo_nothingToUndo_throwsIllegalArgumentException() {
+        AddressBookHistory history = new AddressBookHistory(10, Long.MAX_VALUE);
+        history.commit(version(0));
+        assertThrows(IllegalArgumentException.class, history::undo);
+        assertThrows(IllegalArgumentException.class, history::redo);
+    }
+
+    @Test
+    public void addressBookCommit_singleEdit_costsLogarithmicNodes() {
+        int personCount = 4096;
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < personCount; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withEmail("person" + i + "@example.com").build());
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        addressBook.commit();
+
+        addressBook.setPerson(persons.get(500), new PersonBuilder(persons.get(500)).withPhone("91234567").build());
+        AddressBookVersion version = addressBook.commit();
+
+        // an AVL tree is at most about 1.44 log2(n) levels deep, and an edit copies one path from the root
+        long log2 = 31 - Integer.numberOfLeadingZeros(personCount);
+        assertTrue(version.getEstimatedBytes() <= 2 * log2 * AddressBookVersion.BYTES_PER_NODE);
+    }
+
+    @Test
+    public void addressBookRestore_previousVersion_restoresPersons() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(getTypicalPersons());
+        AddressBookVersion original = addressBook.commit();
+
+        addressBook.removePerson(ALICE);
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("91234567").build());
+        addressBook.addPerson(new PersonBuilder().withName("New Person").withEmail("new@example.com").build());
+
+        addressBook.restore(original);
+        assertEquals(getTypicalPersons(), addressBook.getPersonList());
+        assertEquals(ALICE, addressBook.findPersonByName(ALICE.getName().fullName).get());
+    }
+}
@@ -7,12 +7,16 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -20,6 +24,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -83,6 +88,98 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void setPersons_missingAndRepeatedIds_assignedUniqueIds() {
+        Person benson = new PersonBuilder(BENSON).build().withId(5);
+        Person carl = new PersonBuilder(CARL).build().withId(5);
+        addressBook.setPersons(Arrays.asList(ALICE, benson, carl));
+
+        List<Person> stored = addressBook.getPersonList();
+        assertEquals(5, stored.get(1).getId());
+        assertEquals(Set.of(5L, 6L, 7L), Set.of(stored.get(0).getId(), stored.get(1).getId(), stored.get(2).getId()));
+        assertEquals(Optional.of(stored.get(0)), addressBook.getPersonById(stored.get(0).getId()));
+    }
+
+    @Test
+    public void addPerson_largestIdTaken_reusesFreeId() {
+        Person alice = new PersonBuilder(ALICE).build().withId(Person.MAX_ID);
+        addressBook.setPersons(List.of(alice));
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(CARL);
+
+        List<Person> stored = addressBook.getPersonList();
+        assertEquals(Set.of(Person.MAX_ID, 1L, 2L),
+                Set.of(stored.get(0).getId(), stored.get(1).getId(), stored.get(2).getId()));
+        for (Person person : stored) {
+            assertEquals(Optional.of(person), addressBook.getPersonById(person.getId()));
+        }
+    }
+
+    @Test
+    public void setPersonById_editedPerson_keepsId() {
+        addressBook.addPerson(ALICE);
+        long id = addressBook.getPersonList().get(0).getId();
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setPersonById(id, editedAlice);
+
+        Person stored = addressBook.getPersonById(id).get();
+        assertEquals(editedAlice, stored);
+        assertEquals(id, stored.getId());
+        assertThrows(PersonNotFoundException.class, () -> addressBook.setPersonById(id + 1, editedAlice));
+    }
+
+    @Test
+    public void removePersonById_idNotReused() {
+        addressBook.addPerson(ALICE);
+        long aliceId = addressBook.getPersonList().get(0).getId();
+        addressBook.removePersonById(aliceId);
+        assertTrue(addressBook.getPersonById(aliceId).isEmpty());
+        assertThrows(PersonNotFoundException.class, () -> addressBook.removePersonById(aliceId));
+
+        addressBook.addPerson(BENSON);
+        assertTrue(addressBook.getPersonList().get(0).getId() > aliceId);
+    }
+
+    @Test
+    public void setPerson_targetWithoutId_resolvesStoredPerson() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        // ALICE itself carries no ID, but is equal to the stored copy
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(editedAlice), addressBook.getPersonList());
+        assertTrue(addressBook.getPersonList().get(0).hasId());
+    }
+
+    @Test
+    public void getModificationCount_increasesOnEveryChangeOnly() {
+        long count = addressBook.getModificationCount();
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getModificationCount() > count);
+
+        count = addressBook.getModificationCount();
+        addressBook.hasPerson(ALICE);
+        addressBook.findPersonsByNamePrefix("al");
+        assertEquals(count, addressBook.getModificationCount());
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build());
+        assertTrue(addressBook.getModificationCount() > count);
+
+        count = addressBook.getModificationCount();
+        addressBook.removePersonById(addressBook.getPersonList().get(0).getId());
+        assertTrue(addressBook.getModificationCount() > count);
+    }
+
+    @Test
+    public void findPersonByName_renamedToSharedName_returnsFirstInListOrder() {
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(ALICE);
+        // Benson comes first in the list, so taking Alice's name makes them the first match
+        Person renamedBenson = new PersonBuilder(BENSON).withName(ALICE.getName().fullName).build();
+        addressBook.setPerson(BENSON, renamedBenson);
+
+        assertEquals(Optional.of(renamedBenson), addressBook.findPersonByName(ALICE.getName().fullName));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
@@ -7,16 +7,24 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.finance.Finance;
+import seedu.address.model.finance.FinanceAmount;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +96,72 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void findPersonByName_personInAddressBook_returnsPerson() {
+        modelManager.addPerson(ALICE);
+        assertEquals(Optional.of(ALICE), modelManager.findPersonByName(" alice PAULINE "));
+    }
+
+    @Test
+    public void findPersonByName_deletedPerson_returnsEmpty() {
+        modelManager.addPerson(ALICE);
+        modelManager.deletePerson(ALICE);
+        assertTrue(modelManager.findPersonByName("Alice Pauline").isEmpty());
+    }
+
+    @Test
+    public void findPersonsByNamePrefix_personsInAddressBook_returnsMatches() {
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(ALICE);
+        assertEquals(List.of(ALICE), modelManager.findPersonsByNamePrefix("al"));
+        assertEquals(List.of(ALICE, BENSON), modelManager.findPersonsByNamePrefix(""));
+    }
+
+    @Test
+    public void getOutstandingPersons_debtorsAndPaidUp_returnsDebtorsInListOrder() {
+        Person carl = new PersonBuilder(CARL).withFinance(new Finance(new FinanceAmount("12"))).build();
+        Person alice = new PersonBuilder(ALICE).withFinance(new Finance(new FinanceAmount("30"))).build();
+        modelManager.addPerson(carl);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(alice);
+        assertEquals(List.of(carl, alice), modelManager.getOutstandingPersons(Page.ALL));
+        assertEquals(List.of(alice), modelManager.getOutstandingPersons(new Page(1, 5)));
+        assertEquals(List.of(carl), modelManager.getOutstandingPersons(new Page(0, 1)));
+        assertEquals(List.of(alice), modelManager.getTopDebtors(new Page(0, 1)));
+        assertEquals(List.of(carl), modelManager.getTopDebtors(new Page(1, 1)));
+        assertEquals(4200, modelManager.getTotalOwedCents());
+
+        modelManager.deletePerson(carl);
+        assertEquals(List.of(alice), modelManager.getOutstandingPersons(Page.ALL));
+    }
+
+    @Test
+    public void setFilteredPersonListPage_showsWindowOfSortedList() {
+        modelManager.addPerson(CARL);
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.sortFilteredPersonList(Comparator.comparing(person -> person.getName().fullName));
+
+        modelManager.setFilteredPersonListPage(new Page(1, 1));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+        assertEquals(3, modelManager.getMatchingPersonCount());
+
+        modelManager.setFilteredPersonListPage(new Page(2, 5));
+        assertEquals(List.of(CARL), modelManager.getFilteredPersonList());
+
+        modelManager.setFilteredPersonListPage(new Page(3, 5));
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+
+        // re-applying the current filter keeps the page
+        modelManager.setFilteredPersonListPage(new Page(1, 1));
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        // a new filter shows the whole list again
+        modelManager.updateFilteredPersonList(person -> !person.equals(BENSON));
+        assertEquals(List.of(ALICE, CARL), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -0,0 +1,143 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.RefinablePredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class PredicateCacheTest {
+
+    private final ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final int[] tests = new int[1];
+
+    private CountingPredicate matching(String... keywords) {
+        return new CountingPredicate(List.of(keywords), tests);
+    }
+
+    @Test
+    public void updateFilteredPersonList_equalPredicateAgain_noPersonRetested() {
+        model.updateFilteredPersonList(matching("Meier"));
+        assertEquals(7, tests[0]);
+
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        model.updateFilteredPersonList(matching("Meier"));
+        assertEquals(7, tests[0]);
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_narrowerPredicate_onlyCurrentMatchesTested() {
+        model.updateFilteredPersonList(matching("Alice", "Meier"));
+        tests[0] = 0;
+
+        model.updateFilteredPersonList(matching("Meier"));
+        // only Alice, Benson and Daniel matched the broader filter
+        assertEquals(3, tests[0]);
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void setPerson_filteredList_onlyChangedPersonRetested() {
+        model.updateFilteredPersonList(matching("Meier"));
+        tests[0] = 0;
+
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Benson Kurz").build();
+        model.setPerson(BENSON, renamedBenson);
+        assertEquals(1, tests[0]);
+        assertEquals(List.of(DANIEL), model.getFilteredPersonList());
+
+        // the replaced result is forgotten, so re-applying the filter re-tests only the renamed person
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        model.updateFilteredPersonList(matching("Meier"));
+        assertEquals(1, tests[0]);
+    }
+
+    @Test
+    public void undo_restoredPersons_retestedAgainstFilter() {
+        model.updateFilteredPersonList(matching("Alice"));
+        model.deletePerson(ALICE);
+        model.commitAddressBook();
+        model.undoAddressBook();
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_largestPersonId_resultCached() {
+        Person benson = new PersonBuilder(BENSON).build().withId(Person.MAX_ID);
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(List.of(ALICE, benson));
+        ModelManager largeIdModel = new ModelManager(addressBook, new UserPrefs());
+
+        largeIdModel.updateFilteredPersonList(matching("Meier"));
+        largeIdModel.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        largeIdModel.updateFilteredPersonList(matching("Meier"));
+        assertEquals(2, tests[0]);
+        assertEquals(List.of(benson), largeIdModel.getFilteredPersonList());
+    }
+
+    @Test
+    public void addPerson_afterDeletion_newPersonTestedAfresh() {
+        model.updateFilteredPersonList(matching("Meier"));
+        model.deletePerson(BENSON);
+        tests[0] = 0;
+
+        // the added person may take over the deleted person's slot but not their result
+        Person george = new PersonBuilder().withName("George Best").build();
+        model.addPerson(george);
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        model.updateFilteredPersonList(matching("Meier"));
+        assertEquals(1, tests[0]);
+        assertEquals(List.of(DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_keywordPredicate_matchesResolvedByIndex() {
+        model.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("meier")));
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    /**
+     * A name predicate that counts how many persons it tests.
+     */
+    private static class CountingPredicate implements RefinablePredicate {
+        private final NameContainsKeywordsPredicate delegate;
+        private final int[] tests;
+
+        CountingPredicate(List<String> keywords, int[] tests) {
+            this.delegate = new NameContainsKeywordsPredicate(keywords);
+            this.tests = tests;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            tests[0]++;
+            return delegate.test(person);
+        }
+
+        @Override
+        public boolean refines(Predicate<Person> other) {
+            return other instanceof CountingPredicate counting && delegate.refines(counting.delegate);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof CountingPredicate counting && delegate.equals(counting.delegate);
+        }
+
+        @Override
+        public int hashCode() {
+            return delegate.hashCode();
+        }
+    }
+}
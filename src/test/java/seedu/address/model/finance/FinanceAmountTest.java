@@ -0,0 +1,71 @@
+package seedu.address.model.finance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class FinanceAmountTest {
+
+    @Test
+    public void constructor_string_parsesExactCents() {
+        assertEquals(1250, new FinanceAmount("12.5").toCents());
+        assertEquals(1205, new FinanceAmount(" 12.05 ").toCents());
+        assertEquals(100_000_000, new FinanceAmount("1000000").toCents());
+    }
+
+    @Test
+    public void constructor_double_roundsToNearestCent() {
+        assertEquals(new FinanceAmount("0.30"), new FinanceAmount(0.1 + 0.2));
+        assertThrows(IllegalArgumentException.class, () -> new FinanceAmount(-1.0));
+        assertThrows(IllegalArgumentException.class, () -> new FinanceAmount(1000000.01));
+    }
+
+    @Test
+    public void isValidAmount() {
+        assertTrue(FinanceAmount.isValidAmount("1000000.00"));
+        assertTrue(FinanceAmount.isValidAmount("0.5"));
+        assertFalse(FinanceAmount.isValidAmount("1000000.01"));
+        assertFalse(FinanceAmount.isValidAmount("1.234"));
+        assertFalse(FinanceAmount.isValidAmount("-1"));
+    }
+
+    @Test
+    public void plus_withinLimit_exactSum() {
+        FinanceAmount sum = new FinanceAmount("0.10").plus(new FinanceAmount("0.20"));
+        assertEquals(new FinanceAmount("0.30"), sum);
+    }
+
+    @Test
+    public void plus_exceedsLimit_throwsIllegalArgumentException() {
+        FinanceAmount max = new FinanceAmount("1000000");
+        assertThrows(IllegalArgumentException.class, () -> max.plus(new FinanceAmount("0.01")));
+    }
+
+    @Test
+    public void minus_largerAmount_flooredAtZero() {
+        assertEquals(new FinanceAmount("2.50"), new FinanceAmount("10").minus(new FinanceAmount("7.50")));
+        assertTrue(new FinanceAmount("5").minus(new FinanceAmount("7.50")).isZero());
+    }
+
+    @Test
+    public void compareTo_ordersByValue() {
+        assertTrue(new FinanceAmount("9.99").compareTo(new FinanceAmount("10")) < 0);
+        assertEquals(0, new FinanceAmount("10").compareTo(new FinanceAmount("10.00")));
+    }
+
+    @Test
+    public void equals_sameValueDifferentText_equal() {
+        assertEquals(new FinanceAmount("10"), new FinanceAmount("10.00"));
+        assertEquals(new FinanceAmount("10").hashCode(), new FinanceAmount("10.00").hashCode());
+    }
+
+    @Test
+    public void toString_alwaysTwoDecimalPlaces() {
+        assertEquals("10.00", new FinanceAmount("10").toString());
+        assertEquals("0.05", new FinanceAmount("0.05").toString());
+        assertEquals("12.50", new FinanceAmount("12.5").toString());
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.model.finance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PaymentHistoryTest {
+
+    private static PaymentEntry entry(int cents) {
+        return new PaymentEntry(LocalDate.of(2024, 1, 1), LocalTime.NOON, FinanceAmount.ofCents(cents));
+    }
+
+    @Test
+    public void append_chain_keepsEveryVersion() {
+        List<PaymentHistory> versions = new ArrayList<>();
+        List<PaymentEntry> entries = new ArrayList<>();
+        PaymentHistory history = PaymentHistory.empty();
+        versions.add(history);
+        for (int i = 0; i < 20; i++) {
+            entries.add(entry(i));
+            history = history.append(entries.get(i));
+            versions.add(history);
+        }
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(entries.subList(0, i), versions.get(i));
+        }
+    }
+
+    @Test
+    public void append_olderVersion_doesNotDisturbNewerVersion() {
+        PaymentEntry first = entry(1);
+        PaymentEntry second = entry(2);
+        PaymentEntry branch = entry(3);
+        PaymentHistory base = PaymentHistory.empty().append(first);
+        PaymentHistory main = base.append(second);
+        PaymentHistory forked = base.append(branch);
+
+        assertEquals(List.of(first, second), main);
+        assertEquals(List.of(first, branch), forked);
+        assertEquals(List.of(first), base);
+    }
+
+    @Test
+    public void copyOf_paymentHistory_returnsSameInstance() {
+        PaymentHistory history = PaymentHistory.empty().append(entry(1));
+        assertSame(history, PaymentHistory.copyOf(history));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        PaymentHistory history = PaymentHistory.empty().append(entry(1));
+        assertThrows(UnsupportedOperationException.class, () -> history.add(entry(2)));
+        assertThrows(UnsupportedOperationException.class, () -> history.remove(0));
+    }
+
+    @Test
+    public void get_outOfRange_throwsIndexOutOfBoundsException() {
+        PaymentHistory base = PaymentHistory.empty().append(entry(1));
+        base.append(entry(2));
+        // the shared array holds a second entry, but this version must not expose it
+        assertThrows(IndexOutOfBoundsException.class, () -> base.get(1));
+    }
+
+    @Test
+    public void equals() {
+        PaymentEntry first = entry(1);
+        PaymentHistory history = PaymentHistory.empty().append(first);
+        assertTrue(history.equals(PaymentHistory.copyOf(List.of(first))));
+        assertEquals(List.of(first).hashCode(), history.hashCode());
+        assertNotEquals(history, history.append(entry(2)));
+    }
+
+    @Test
+    public void financePay_sharesHistoryWithPreviousFinance() {
+        Finance finance = new Finance(new FinanceAmount("100"));
+        Finance paidOnce = finance.pay(new FinanceAmount("10"));
+        Finance paidTwice = paidOnce.pay(new FinanceAmount("20"));
+        Finance feeAdded = paidTwice.add(new FinanceAmount("5"));
+
+        assertEquals(1, paidOnce.getHistory().size());
+        assertEquals(2, paidTwice.getHistory().size());
+        assertSame(paidOnce.getHistory().get(0), paidTwice.getHistory().get(0));
+        assertSame(paidTwice.getHistory(), feeAdded.getHistory());
+    }
+}
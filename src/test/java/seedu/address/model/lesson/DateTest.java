@@ -2,6 +2,7 @@ package seedu.address.model.lesson;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -60,4 +61,13 @@ public class DateTest {
         assertEquals(DayOfWeek.MONDAY, new Date("Monday").asDayOfWeek());
         assertEquals(DayOfWeek.SUNDAY, new Date("sunday").asDayOfWeek());
     }
+
+    @Test
+    public void of_anyCase_returnsSharedDate() {
+        Date monday = Date.of("Monday");
+        assertSame(monday, Date.of("MONDAY"));
+        assertEquals(new Date("monday"), monday);
+        assertEquals(DayOfWeek.SUNDAY, Date.of("sunday").asDayOfWeek());
+        assertThrows(IllegalArgumentException.class, () -> Date.of("Day"));
+    }
 }
@@ -0,0 +1,103 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameIndexTest {
+
+    private final NameIndex nameIndex = new NameIndex();
+
+    @Test
+    public void findFirst_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameIndex.findFirst(null));
+    }
+
+    @Test
+    public void findFirst_differentCaseAndSpaces_returnsPerson() {
+        nameIndex.add(ALICE);
+        assertEquals(Optional.of(ALICE), nameIndex.findFirst("  aLiCe pAuLiNe "));
+    }
+
+    @Test
+    public void findFirst_partialName_returnsEmpty() {
+        nameIndex.add(ALICE);
+        assertTrue(nameIndex.findFirst("Alice").isEmpty());
+    }
+
+    @Test
+    public void findFirst_sharedName_returnsFirstIndexed() {
+        Person otherAlice = new PersonBuilder(ALICE).withEmail("other@example.com").build();
+        nameIndex.add(ALICE);
+        nameIndex.add(otherAlice);
+        assertEquals(Optional.of(ALICE), nameIndex.findFirst("alice pauline"));
+        nameIndex.remove(ALICE);
+        assertEquals(Optional.of(otherAlice), nameIndex.findFirst("alice pauline"));
+    }
+
+    @Test
+    public void replace_renamedPerson_updatesLookups() {
+        nameIndex.add(ALICE);
+        Person renamed = new PersonBuilder(ALICE).withName("Alicia").build();
+        nameIndex.replace(ALICE, renamed);
+        assertTrue(nameIndex.findFirst("Alice Pauline").isEmpty());
+        assertEquals(Optional.of(renamed), nameIndex.findFirst("alicia"));
+    }
+
+    @Test
+    public void replace_sameName_keepsPosition() {
+        Person otherAlice = new PersonBuilder(ALICE).withEmail("other@example.com").build();
+        nameIndex.add(ALICE);
+        nameIndex.add(otherAlice);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        nameIndex.replace(ALICE, editedAlice);
+        assertEquals(Optional.of(editedAlice), nameIndex.findFirst("Alice Pauline"));
+    }
+
+    @Test
+    public void replace_renamedToSharedName_placedByListPosition() {
+        List<Person> list = new ArrayList<>(List.of(BENSON, ALICE, DANIEL));
+        NameIndex positionedIndex = new NameIndex(list::indexOf);
+        positionedIndex.setPersons(list);
+
+        Person renamedBenson = new PersonBuilder(BENSON).withName(ALICE.getName().fullName).build();
+        list.set(0, renamedBenson);
+        positionedIndex.replace(BENSON, renamedBenson);
+        assertEquals(Optional.of(renamedBenson), positionedIndex.findFirst("alice pauline"));
+
+        Person renamedDaniel = new PersonBuilder(DANIEL).withName(ALICE.getName().fullName).build();
+        list.set(2, renamedDaniel);
+        positionedIndex.replace(DANIEL, renamedDaniel);
+        assertEquals(List.of(renamedBenson, ALICE, renamedDaniel), positionedIndex.findByPrefix("alice"));
+    }
+
+    @Test
+    public void findByPrefix_matchingNames_returnsPersonsOrderedByName() {
+        nameIndex.setPersons(Arrays.asList(HOON, ALICE, DANIEL, BENSON));
+        assertEquals(List.of(BENSON), nameIndex.findByPrefix("ben"));
+        assertEquals(List.of(ALICE, BENSON, DANIEL, HOON), nameIndex.findByPrefix(""));
+        assertEquals(List.of(), nameIndex.findByPrefix("zz"));
+    }
+
+    @Test
+    public void clear_removesAllPersons() {
+        nameIndex.add(ALICE);
+        nameIndex.clear();
+        assertTrue(nameIndex.findFirst("Alice Pauline").isEmpty());
+        assertEquals(List.of(), nameIndex.findByPrefix(""));
+    }
+}
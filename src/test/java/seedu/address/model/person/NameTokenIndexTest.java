@@ -0,0 +1,60 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTokenIndexTest {
+
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+
+    @Test
+    public void findAny_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameTokenIndex.findAny(null));
+    }
+
+    @Test
+    public void findAny_noKeywords_returnsEmptySet() {
+        nameTokenIndex.add(ALICE);
+        assertTrue(nameTokenIndex.findAny(List.of()).isEmpty());
+    }
+
+    @Test
+    public void findAny_wholeWordIgnoringCase_returnsMatches() {
+        nameTokenIndex.setPersons(Arrays.asList(ALICE, BENSON, DANIEL));
+        // Benson Meier and Daniel Meier share a token
+        assertEquals(Set.of(BENSON, DANIEL), Set.copyOf(nameTokenIndex.findAny(List.of("mEiEr"))));
+        // union of keywords
+        assertEquals(Set.of(ALICE, BENSON), Set.copyOf(nameTokenIndex.findAny(List.of("alice", "benson"))));
+        // partial words do not match
+        assertTrue(nameTokenIndex.findAny(List.of("Ali", "Mei")).isEmpty());
+    }
+
+    @Test
+    public void replace_renamedPerson_updatesPostings() {
+        nameTokenIndex.add(ALICE);
+        Person renamed = new PersonBuilder(ALICE).withName("Alicia Tan").build();
+        nameTokenIndex.replace(ALICE, renamed);
+        assertTrue(nameTokenIndex.findAny(List.of("Pauline")).isEmpty());
+        assertEquals(Set.of(renamed), Set.copyOf(nameTokenIndex.findAny(List.of("tan"))));
+    }
+
+    @Test
+    public void remove_person_removesFromPostings() {
+        nameTokenIndex.add(BENSON);
+        nameTokenIndex.add(DANIEL);
+        nameTokenIndex.remove(BENSON);
+        assertEquals(Set.of(DANIEL), Set.copyOf(nameTokenIndex.findAny(List.of("Meier"))));
+    }
+}
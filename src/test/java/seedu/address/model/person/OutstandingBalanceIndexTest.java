@@ -0,0 +1,108 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.finance.Finance;
+import seedu.address.model.finance.FinanceAmount;
+import seedu.address.testutil.PersonBuilder;
+
+public class OutstandingBalanceIndexTest {
+
+    private final OutstandingBalanceIndex outstandingBalanceIndex = new OutstandingBalanceIndex();
+
+    private static Person owing(Person person, String amount) {
+        return new PersonBuilder(person).withFinance(new Finance(new FinanceAmount(amount))).build();
+    }
+
+    @Test
+    public void add_paidUpOrNoFinance_notIndexed() {
+        outstandingBalanceIndex.add(owing(ALICE, "0"));
+        outstandingBalanceIndex.add(new PersonBuilder(BENSON).withoutFinance().build());
+        assertEquals(0, outstandingBalanceIndex.getDebtorCount());
+        assertEquals(0, outstandingBalanceIndex.getTotalOwedCents());
+    }
+
+    @Test
+    public void setPersons_debtors_tracksCountAndTotal() {
+        outstandingBalanceIndex.setPersons(Arrays.asList(owing(ALICE, "10.50"), owing(BENSON, "0"),
+                owing(CARL, "4.25")));
+        assertEquals(2, outstandingBalanceIndex.getDebtorCount());
+        assertEquals(1475, outstandingBalanceIndex.getTotalOwedCents());
+    }
+
+    @Test
+    public void getTopDebtors_largestFirst() {
+        Person alice = owing(ALICE, "30");
+        Person benson = owing(BENSON, "120.50");
+        Person carl = owing(CARL, "45");
+        outstandingBalanceIndex.setPersons(Arrays.asList(alice, benson, carl));
+        assertEquals(List.of(benson, carl), outstandingBalanceIndex.getTopDebtors(2));
+        assertEquals(List.of(benson, carl, alice), outstandingBalanceIndex.getTopDebtors(10));
+        assertTrue(outstandingBalanceIndex.getTopDebtors(0).isEmpty());
+    }
+
+    @Test
+    public void getTopDebtors_offset_skipsLargest() {
+        Person alice = owing(ALICE, "30");
+        Person benson = owing(BENSON, "120.50");
+        Person carl = owing(CARL, "30");
+        outstandingBalanceIndex.setPersons(Arrays.asList(alice, benson, carl));
+        assertEquals(List.of(alice, carl), outstandingBalanceIndex.getTopDebtors(1, 5));
+        assertEquals(List.of(carl), outstandingBalanceIndex.getTopDebtors(2, 5));
+        assertTrue(outstandingBalanceIndex.getTopDebtors(3, 5).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> outstandingBalanceIndex.getTopDebtors(-1, 5));
+    }
+
+    @Test
+    public void getTopDebtors_negativeCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> outstandingBalanceIndex.getTopDebtors(-1));
+    }
+
+    @Test
+    public void getDebtorsOwingBetween_inclusiveRange() {
+        Person alice = owing(ALICE, "30");
+        Person benson = owing(BENSON, "120.50");
+        Person carl = owing(CARL, "45");
+        outstandingBalanceIndex.setPersons(Arrays.asList(alice, benson, carl));
+        assertEquals(List.of(alice, carl), outstandingBalanceIndex.getDebtorsOwingBetween(3000, 4500));
+        assertTrue(outstandingBalanceIndex.getDebtorsOwingBetween(4501, 4500).isEmpty());
+    }
+
+    @Test
+    public void replace_payment_updatesBalance() {
+        Person daniel = owing(DANIEL, "20");
+        outstandingBalanceIndex.add(daniel);
+        Person partlyPaid = new PersonBuilder(daniel)
+                .withFinance(daniel.getFinance().get().pay(new FinanceAmount("5"))).build();
+        outstandingBalanceIndex.replace(daniel, partlyPaid);
+        assertEquals(Set.of(partlyPaid), outstandingBalanceIndex.getDebtors());
+        assertEquals(1500, outstandingBalanceIndex.getTotalOwedCents());
+
+        Person paidUp = new PersonBuilder(partlyPaid)
+                .withFinance(partlyPaid.getFinance().get().pay(new FinanceAmount("15"))).build();
+        outstandingBalanceIndex.replace(partlyPaid, paidUp);
+        assertEquals(0, outstandingBalanceIndex.getDebtorCount());
+        assertEquals(0, outstandingBalanceIndex.getTotalOwedCents());
+    }
+
+    @Test
+    public void remove_debtor_removesFromIndex() {
+        Person alice = owing(ALICE, "30");
+        outstandingBalanceIndex.add(alice);
+        outstandingBalanceIndex.remove(alice);
+        assertTrue(outstandingBalanceIndex.getTopDebtors(1).isEmpty());
+        assertTrue(outstandingBalanceIndex.getDebtorsOwingBetween(0, Long.MAX_VALUE).isEmpty());
+    }
+}
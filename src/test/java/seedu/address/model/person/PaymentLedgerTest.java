@@ -0,0 +1,99 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.finance.Finance;
+import seedu.address.model.finance.FinanceAmount;
+import seedu.address.model.finance.PaymentEntry;
+import seedu.address.testutil.PersonBuilder;
+
+public class PaymentLedgerTest {
+
+    private static final PaymentEntry JAN_1 = payment("2024-01-01", "09:00");
+    private static final PaymentEntry JAN_2_MORNING = payment("2024-01-02", "09:00");
+    private static final PaymentEntry JAN_2_EVENING = payment("2024-01-02", "18:00");
+    private static final PaymentEntry FEB_1 = payment("2024-02-01", "12:00");
+
+    private final PaymentLedger paymentLedger = new PaymentLedger();
+
+    private static PaymentEntry payment(String date, String time) {
+        return new PaymentEntry(LocalDate.parse(date), LocalTime.parse(time), new FinanceAmount("10"));
+    }
+
+    private static Person withPayments(Person person, PaymentEntry... payments) {
+        return new PersonBuilder(person)
+                .withFinance(new Finance(new FinanceAmount("0"), Arrays.asList(payments))).build();
+    }
+
+    private static List<PaymentEntry> payments(Iterable<PaymentRecord> records) {
+        List<PaymentEntry> payments = new ArrayList<>();
+        records.forEach(record -> payments.add(record.getPayment()));
+        return payments;
+    }
+
+    @Test
+    public void newestFirst_paymentsAcrossPersons_orderedByDateAndTime() {
+        Person alice = withPayments(ALICE, JAN_1, JAN_2_EVENING);
+        Person benson = withPayments(BENSON, JAN_2_MORNING, FEB_1);
+        paymentLedger.setPersons(Arrays.asList(alice, benson));
+
+        assertEquals(List.of(FEB_1, JAN_2_EVENING, JAN_2_MORNING, JAN_1), payments(paymentLedger.newestFirst()));
+        PaymentRecord newest = paymentLedger.newestFirst().iterator().next();
+        assertSame(benson, newest.getPayer());
+    }
+
+    @Test
+    public void between_inclusiveDates_returnsPaymentsInRange() {
+        paymentLedger.setPersons(List.of(withPayments(ALICE, JAN_1, JAN_2_MORNING, JAN_2_EVENING, FEB_1)));
+
+        assertEquals(List.of(JAN_2_EVENING, JAN_2_MORNING),
+                payments(paymentLedger.between(LocalDate.parse("2024-01-02"), LocalDate.parse("2024-01-31"))));
+        assertFalse(paymentLedger.between(LocalDate.parse("2024-03-01"), LocalDate.parse("2024-01-01"))
+                .iterator().hasNext());
+    }
+
+    @Test
+    public void add_outOfOrderPayment_keptInTimeOrder() {
+        paymentLedger.add(withPayments(ALICE, FEB_1));
+        paymentLedger.add(withPayments(BENSON, JAN_1));
+        assertEquals(List.of(FEB_1, JAN_1), payments(paymentLedger.newestFirst()));
+    }
+
+    @Test
+    public void replace_newPayment_appendsOnlyNewPayment() {
+        Person alice = withPayments(ALICE, JAN_1);
+        paymentLedger.add(alice);
+        Person paidAgain = withPayments(alice, JAN_1, FEB_1);
+        paymentLedger.replace(alice, paidAgain);
+
+        assertEquals(2, paymentLedger.size());
+        for (PaymentRecord record : paymentLedger.newestFirst()) {
+            assertSame(paidAgain, record.getPayer());
+        }
+    }
+
+    @Test
+    public void remove_personThenReAdd_noDuplicatePayments() {
+        Person alice = withPayments(ALICE, JAN_1, JAN_2_MORNING);
+        Person benson = withPayments(BENSON, FEB_1);
+        paymentLedger.setPersons(Arrays.asList(alice, benson));
+
+        paymentLedger.remove(alice);
+        assertEquals(List.of(FEB_1), payments(paymentLedger.newestFirst()));
+
+        paymentLedger.add(alice);
+        assertEquals(List.of(FEB_1, JAN_2_MORNING, JAN_1), payments(paymentLedger.newestFirst()));
+    }
+}
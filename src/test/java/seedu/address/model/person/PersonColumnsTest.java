@@ -0,0 +1,145 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.finance.Finance;
+import seedu.address.model.finance.FinanceAmount;
+import seedu.address.model.lesson.AttendanceStatus;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonColumnsTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+
+    private final PersonColumns personColumns = new PersonColumns();
+
+    private static Person owing(Person person, String amount, String... tags) {
+        return new PersonBuilder(person).withFinance(new Finance(new FinanceAmount(amount))).withTags(tags).build();
+    }
+
+    @Test
+    public void setPersons_aggregatesOwedAmountsAndTags() {
+        personColumns.setPersons(Arrays.asList(owing(ALICE, "10.50", "friends"), owing(BENSON, "0", "friends"),
+                owing(CARL, "4.25")));
+        AnalyticsSnapshot snapshot = personColumns.snapshot();
+
+        assertEquals(3, snapshot.size());
+        assertEquals(1475, snapshot.getTotalOwedCents());
+        assertEquals(2, snapshot.getDebtorCount());
+        assertEquals(2, snapshot.countTagged(FRIENDS));
+        assertEquals(1050, snapshot.getTotalOwedCents(FRIENDS));
+        assertEquals(0, snapshot.countTagged(new Tag("unknown")));
+    }
+
+    @Test
+    public void remove_middleRow_lastRowMovedIntoPlace() {
+        Person alice = owing(ALICE, "1", "friends");
+        Person benson = owing(BENSON, "2");
+        Person carl = owing(CARL, "4", "friends");
+        personColumns.setPersons(Arrays.asList(alice, benson, carl));
+
+        personColumns.remove(alice);
+        AnalyticsSnapshot snapshot = personColumns.snapshot();
+        assertEquals(2, snapshot.size());
+        assertEquals(600, snapshot.getTotalOwedCents());
+        assertEquals(1, snapshot.countTagged(FRIENDS));
+        assertEquals(400, snapshot.getTotalOwedCents(FRIENDS));
+
+        personColumns.remove(carl);
+        assertEquals(200, personColumns.snapshot().getTotalOwedCents());
+        assertEquals(0, personColumns.snapshot().countTagged(FRIENDS));
+    }
+
+    @Test
+    public void replace_lessonAndAttendance_updatesRow() {
+        Person alice = new PersonBuilder(ALICE).withLesson("Math", "Tuesday", "10:00", "RoomA").build();
+        personColumns.add(alice);
+        Person marked = alice.markAttendance(AttendanceStatus.PRESENT).markAttendance(AttendanceStatus.ABSENT);
+        personColumns.replace(alice, marked);
+
+        AnalyticsSnapshot snapshot = personColumns.snapshot();
+        assertEquals(1, snapshot.size());
+        assertEquals(2, snapshot.getTotalLessons());
+        assertEquals(1, snapshot.getTotalAttendances());
+        assertEquals(0.5, snapshot.getAttendanceRate());
+        assertEquals("[0, 1, 0, 0, 0, 0, 0]", Arrays.toString(snapshot.getLessonCountsByDay()));
+    }
+
+    @Test
+    public void snapshot_laterUpdates_leaveSnapshotUnchanged() {
+        Person alice = owing(ALICE, "10", "friends");
+        personColumns.add(alice);
+        AnalyticsSnapshot before = personColumns.snapshot();
+        assertSame(before, personColumns.snapshot());
+
+        personColumns.add(owing(BENSON, "5", "friends"));
+        personColumns.remove(alice);
+
+        assertEquals(1000, before.getTotalOwedCents());
+        assertEquals(1, before.countTagged(FRIENDS));
+        assertEquals(500, personColumns.snapshot().getTotalOwedCents());
+    }
+
+    @Test
+    public void snapshot_updateInOneChunk_leavesSnapshotOfEveryChunkUnchanged() {
+        int size = PersonColumns.CHUNK_SIZE * 2 + 1;
+        Person[] persons = new Person[size];
+        for (int i = 0; i < size; i++) {
+            persons[i] = new PersonBuilder().withName("Person " + i).withEmail("person" + i + "@example.com")
+                    .withFinance(new Finance(new FinanceAmount("1"))).withTags("friends").build();
+        }
+        personColumns.setPersons(Arrays.asList(persons));
+        AnalyticsSnapshot before = personColumns.snapshot();
+
+        Person last = persons[size - 1];
+        personColumns.replace(last, owing(last, "3"));
+        personColumns.remove(persons[0]);
+
+        assertEquals(size, before.size());
+        assertEquals(100L * size, before.getTotalOwedCents());
+        assertEquals(size, before.countTagged(FRIENDS));
+        AnalyticsSnapshot after = personColumns.snapshot();
+        assertEquals(size - 1, after.size());
+        assertEquals(100L * (size - 2) + 300, after.getTotalOwedCents());
+        assertEquals(size - 2, after.countTagged(FRIENDS));
+        assertEquals(100L * (size - 2), after.getTotalOwedCents(FRIENDS));
+    }
+
+    @Test
+    public void aggregates_aboveParallelThreshold_matchSequentialSums() {
+        int size = AnalyticsSnapshot.PARALLEL_THRESHOLD + 1;
+        int chunks = PersonColumns.chunkCount(size);
+        long[][] owedCents = new long[chunks][PersonColumns.CHUNK_SIZE];
+        int[][] totalLessons = new int[chunks][PersonColumns.CHUNK_SIZE];
+        int[][] attendedLessons = new int[chunks][PersonColumns.CHUNK_SIZE];
+        short[][] lessonSlots = new short[chunks][PersonColumns.CHUNK_SIZE];
+        long expectedOwedCents = 0;
+        for (int i = 0; i < size; i++) {
+            int chunk = i >>> PersonColumns.CHUNK_SHIFT;
+            int offset = i & (PersonColumns.CHUNK_SIZE - 1);
+            owedCents[chunk][offset] = i % 3;
+            totalLessons[chunk][offset] = 2;
+            attendedLessons[chunk][offset] = i % 2;
+            lessonSlots[chunk][offset] = PersonColumns.NO_LESSON;
+            expectedOwedCents += i % 3;
+        }
+        AnalyticsSnapshot snapshot = new AnalyticsSnapshot(size, owedCents, totalLessons, attendedLessons,
+                lessonSlots, Map.of(), List.of());
+
+        assertEquals(expectedOwedCents, snapshot.getTotalOwedCents());
+        assertEquals(size - (size + 2) / 3, snapshot.getDebtorCount());
+        assertEquals(2L * size, snapshot.getTotalLessons());
+        assertEquals(size / 2, snapshot.getTotalAttendances());
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.finance.Finance;
+import seedu.address.model.finance.FinanceAmount;
+import seedu.address.model.lesson.AttendanceStatus;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSortKeyTest {
+
+    // A Wednesday
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 10, 16, 12, 0);
+
+    @Test
+    public void fromKeyword() {
+        assertEquals(Optional.of(PersonSortKey.OWED), PersonSortKey.fromKeyword(" OWED "));
+        assertEquals(Optional.of(PersonSortKey.NONE), PersonSortKey.fromKeyword("none"));
+        assertEquals(Optional.empty(), PersonSortKey.fromKeyword("phone"));
+        assertThrows(NullPointerException.class, () -> PersonSortKey.fromKeyword(null));
+    }
+
+    @Test
+    public void comparator_name_ignoresCase() {
+        Person upper = new PersonBuilder().withName("Bob").build();
+        Person lower = new PersonBuilder().withName("alice").build();
+        assertEquals(List.of(lower, upper), sorted(PersonSortKey.NAME, upper, lower));
+    }
+
+    @Test
+    public void comparator_owed_largestFirstThenByName() {
+        Person small = new PersonBuilder().withName("Ann").withFinance(new Finance(new FinanceAmount("5"))).build();
+        Person large = new PersonBuilder().withName("Cat").withFinance(new Finance(new FinanceAmount("50"))).build();
+        Person tied = new PersonBuilder().withName("Ben").withFinance(new Finance(new FinanceAmount("50"))).build();
+        assertEquals(List.of(tied, large, small), sorted(PersonSortKey.OWED, small, large, tied));
+    }
+
+    @Test
+    public void comparator_attendance_highestFirstUnmarkedLast() {
+        Person unmarked = new PersonBuilder().withName("Ann").build();
+        Person absent = new PersonBuilder().withName("Ben").withLesson("Math", "Monday", "08:00", "A").build()
+                .markAttendance(AttendanceStatus.ABSENT);
+        Person present = new PersonBuilder().withName("Cat").withLesson("Math", "Monday", "08:00", "A").build()
+                .markAttendance(AttendanceStatus.PRESENT);
+        assertEquals(List.of(present, absent, unmarked), sorted(PersonSortKey.ATTENDANCE, unmarked, absent, present));
+    }
+
+    @Test
+    public void comparator_lesson_soonestAfterNowFirst() {
+        Person earlierToday = new PersonBuilder().withName("Ann").withLesson("Math", "Wednesday", "09:00", "A").build();
+        Person laterToday = new PersonBuilder().withName("Ben").withLesson("Math", "Wednesday", "15:00", "A").build();
+        Person tomorrow = new PersonBuilder().withName("Cat").withLesson("Math", "Thursday", "08:00", "A").build();
+        Person monday = new PersonBuilder().withName("Dan").withLesson("Math", "Monday", "08:00", "A").build();
+        assertEquals(List.of(laterToday, tomorrow, monday, earlierToday),
+                sorted(PersonSortKey.LESSON, earlierToday, monday, tomorrow, laterToday));
+    }
+
+    @Test
+    public void comparator_none_isNull() {
+        assertNull(PersonSortKey.NONE.comparator(NOW));
+        assertTrue(PersonSortKey.NAME.comparator(NOW) != null);
+    }
+
+    private static List<Person> sorted(PersonSortKey key, Person... persons) {
+        List<Person> list = new ArrayList<>(List.of(persons));
+        list.sort(key.comparator(NOW));
+        return list;
+    }
+}
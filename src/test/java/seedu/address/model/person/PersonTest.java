@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -14,6 +15,9 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.finance.Finance;
+import seedu.address.model.finance.FinanceAmount;
+import seedu.address.model.lesson.AttendanceStatus;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -90,6 +94,35 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void hashCode_longPaymentHistory_consistentWithEquals() {
+        Finance finance = new Finance(new FinanceAmount("1000"));
+        for (int i = 0; i < 500; i++) {
+            finance = finance.pay(new FinanceAmount("1"));
+        }
+        Person person = new PersonBuilder(ALICE).withFinance(finance).build();
+        Person copy = new PersonBuilder(person).build();
+        Person paidMore = new PersonBuilder(person).withFinance(finance.pay(new FinanceAmount("1"))).build();
+
+        assertEquals(person, copy);
+        assertEquals(person.hashCode(), copy.hashCode());
+        // cached value is returned on later calls
+        assertEquals(person.hashCode(), person.hashCode());
+        assertFalse(person.equals(paidMore));
+    }
+
+    @Test
+    public void setLessonAndMarkAttendance_sharesTagsWithOriginal() {
+        Person person = new PersonBuilder(ALICE).withTags("friends", "colleagues").build();
+        Person withLesson = person.setLesson("Math", "Monday", "08:00", "RoomA");
+        Person marked = withLesson.markAttendance(AttendanceStatus.PRESENT);
+
+        assertSame(person.getTags(), withLesson.getTags());
+        assertSame(person.getTags(), marked.getTags());
+        assertTrue(person.getLesson().isEmpty());
+        assertTrue(withLesson.getFinance().isPresent());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
@@ -97,4 +130,11 @@ public class PersonTest {
                 + ", lesson=" + ALICE.getLesson().orElse(null) + ", finance=" + ALICE.getFinance() + "}";
         assertEquals(expected, ALICE.toString());
     }
+
+    @Test
+    public void withId_outOfRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> ALICE.withId(0));
+        assertThrows(IllegalArgumentException.class, () -> ALICE.withId(Person.MAX_ID + 1));
+        assertEquals(Person.MAX_ID, ALICE.withId(Person.MAX_ID).getId());
+    }
 }
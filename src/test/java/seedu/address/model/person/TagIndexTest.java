@@ -0,0 +1,55 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private final TagIndex tagIndex = new TagIndex();
+
+    @Test
+    public void findAny_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tagIndex.findAny(null));
+    }
+
+    @Test
+    public void findAny_sameResultsAsPredicate() {
+        List<Person> persons = getTypicalPersons();
+        tagIndex.setPersons(persons);
+        for (String keyword : List.of("friends", "FRI", "en", "o", "owesmoney", "Money", "xyz", "")) {
+            TagContainsKeywordsPredicate predicate = new TagContainsKeywordsPredicate(List.of(keyword));
+            Set<Person> expected = persons.stream().filter(predicate).collect(Collectors.toSet());
+            assertEquals(expected, Set.copyOf(tagIndex.findAny(List.of(keyword))), keyword);
+        }
+    }
+
+    @Test
+    public void findAny_multipleKeywords_returnsUnion() {
+        Person alice = new PersonBuilder(ALICE).withTags("mathClass").build();
+        Person benson = new PersonBuilder(BENSON).withTags("science").build();
+        tagIndex.setPersons(List.of(alice, benson));
+        assertEquals(Set.of(alice, benson), Set.copyOf(tagIndex.findAny(List.of("math", "ScI"))));
+    }
+
+    @Test
+    public void replace_retaggedPerson_updatesMembers() {
+        Person alice = new PersonBuilder(ALICE).withTags("mathClass").build();
+        tagIndex.add(alice);
+        Person retagged = new PersonBuilder(alice).withTags("physics").build();
+        tagIndex.replace(alice, retagged);
+        assertTrue(tagIndex.findAny(List.of("math")).isEmpty());
+        assertEquals(Set.of(retagged), Set.copyOf(tagIndex.findAny(List.of("sics"))));
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class WeeklyScheduleIndexTest {
+
+    private final WeeklyScheduleIndex weeklyScheduleIndex = new WeeklyScheduleIndex();
+
+    private static Person withLesson(Person person, String day, String time) {
+        return new PersonBuilder(person).withLesson("Math", day, time, "Room A").build();
+    }
+
+    @Test
+    public void add_personWithoutLesson_notIndexed() {
+        weeklyScheduleIndex.add(new PersonBuilder(ALICE).build());
+        assertTrue(weeklyScheduleIndex.isEmpty());
+    }
+
+    @Test
+    public void setPersons_lessons_bucketedByDayInTimeOrder() {
+        Person alice = withLesson(ALICE, "Monday", "10:30");
+        Person benson = withLesson(BENSON, "Monday", "08:00");
+        Person carl = withLesson(CARL, "Friday", "09:00");
+        weeklyScheduleIndex.setPersons(Arrays.asList(alice, benson, carl));
+        assertEquals(List.of(benson, alice), weeklyScheduleIndex.getPersonsOn(DayOfWeek.MONDAY));
+        assertEquals(List.of(carl), weeklyScheduleIndex.getPersonsOn(DayOfWeek.FRIDAY));
+        assertTrue(weeklyScheduleIndex.getPersonsOn(DayOfWeek.SUNDAY).isEmpty());
+    }
+
+    @Test
+    public void replace_sameSlot_keepsPosition() {
+        Person alice = withLesson(ALICE, "Tuesday", "09:00");
+        Person benson = withLesson(BENSON, "Tuesday", "09:00");
+        weeklyScheduleIndex.setPersons(Arrays.asList(alice, benson));
+        Person editedAlice = new PersonBuilder(alice).withPhone("91234567").build();
+        weeklyScheduleIndex.replace(alice, editedAlice);
+        assertEquals(List.of(editedAlice, benson), weeklyScheduleIndex.getPersonsOn(DayOfWeek.TUESDAY));
+    }
+
+    @Test
+    public void replace_movedLesson_movesBucket() {
+        Person alice = withLesson(ALICE, "Tuesday", "09:00");
+        weeklyScheduleIndex.add(alice);
+        Person movedAlice = withLesson(alice, "Thursday", "11:00");
+        weeklyScheduleIndex.replace(alice, movedAlice);
+        assertTrue(weeklyScheduleIndex.getPersonsOn(DayOfWeek.TUESDAY).isEmpty());
+        assertEquals(List.of(movedAlice), weeklyScheduleIndex.getPersonsOn(DayOfWeek.THURSDAY));
+    }
+
+    @Test
+    public void remove_lastLesson_leavesIndexEmpty() {
+        Person alice = withLesson(ALICE, "Saturday", "15:00");
+        weeklyScheduleIndex.add(alice);
+        weeklyScheduleIndex.remove(alice);
+        assertTrue(weeklyScheduleIndex.isEmpty());
+    }
+}
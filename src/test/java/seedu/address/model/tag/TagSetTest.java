@@ -0,0 +1,58 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag COLLEAGUES = new Tag("colleagues");
+    private static final Tag NEIGHBOURS = new Tag("neighbours");
+
+    @Test
+    public void copyOf_duplicates_sortedDistinctTags() {
+        TagSet tags = TagSet.copyOf(List.of(NEIGHBOURS, FRIENDS, COLLEAGUES, new Tag("friends")));
+        assertEquals(List.of(COLLEAGUES, FRIENDS, NEIGHBOURS), new ArrayList<>(tags));
+        assertEquals(3, tags.size());
+    }
+
+    @Test
+    public void copyOf_tagSet_returnsSameInstance() {
+        TagSet tags = TagSet.copyOf(Set.of(FRIENDS));
+        assertSame(tags, TagSet.copyOf(tags));
+        assertSame(TagSet.empty(), TagSet.copyOf(Set.of()));
+    }
+
+    @Test
+    public void contains() {
+        TagSet tags = TagSet.copyOf(Set.of(FRIENDS, NEIGHBOURS));
+        assertTrue(tags.contains(new Tag("friends")));
+        assertFalse(tags.contains(COLLEAGUES));
+        assertFalse(tags.contains("friends"));
+    }
+
+    @Test
+    public void equals_hashSetWithSameTags_equal() {
+        TagSet tags = TagSet.copyOf(Set.of(FRIENDS, COLLEAGUES));
+        assertEquals(Set.of(COLLEAGUES, FRIENDS), tags);
+        assertEquals(tags, Set.of(COLLEAGUES, FRIENDS));
+        assertEquals(Set.of(COLLEAGUES, FRIENDS).hashCode(), tags.hashCode());
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tags = TagSet.copyOf(Set.of(FRIENDS));
+        assertThrows(UnsupportedOperationException.class, () -> tags.add(COLLEAGUES));
+        assertThrows(UnsupportedOperationException.class, () -> tags.remove(COLLEAGUES));
+        assertThrows(UnsupportedOperationException.class, tags::clear);
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -38,4 +40,13 @@ public class TagTest {
         assertTrue(Tag.isValidTagName("a".repeat(15))); // exactly max length of 15
     }
 
+    @Test
+    public void of_sameName_returnsSharedTag() {
+        // a fresh string, as a JSON loader would produce
+        Tag tag = Tag.of(new String("friends"));
+        assertSame(tag, Tag.of("friends"));
+        assertEquals(new Tag("friends"), tag);
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("peter*"));
+    }
+
 }
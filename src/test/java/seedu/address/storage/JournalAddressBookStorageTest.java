@@ -0,0 +1,323 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath() {
+        return testFolder.resolve("addressBook.json");
+    }
+
+    private Path journalPath() {
+        return JournalAddressBookStorage.getJournalPath(filePath());
+    }
+
+    private AddressBook reload() throws Exception {
+        return new AddressBook(new JournalAddressBookStorage(filePath()).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(filePath()).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshot() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath());
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(1, storage.getCompactionCount());
+        assertEquals(0, storage.getJournalEntryCount());
+        assertEquals(1, Files.readAllLines(journalPath()).size());
+        assertEquals(addressBook, reload());
+    }
+
+    @Test
+    public void saveAddressBook_singleChange_appendsToJournalOnly() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath());
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        long snapshotBytes = storage.getBytesWritten();
+        long headerBytes = Files.size(journalPath());
+        String snapshot = Files.readString(filePath());
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        storage.saveAddressBook(addressBook);
+
+        // one changed person costs one journal entry, a fraction of rewriting every person
+        long journalWriteBytes = storage.getBytesWritten() - snapshotBytes;
+        assertEquals(1, storage.getJournalEntryCount());
+        assertEquals(headerBytes + journalWriteBytes, Files.size(journalPath()));
+        assertTrue(journalWriteBytes * 3 < snapshotBytes);
+        assertEquals(snapshot, Files.readString(filePath()));
+        assertEquals(addressBook, reload());
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_writesNothing() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath());
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        long bytesWritten = storage.getBytesWritten();
+
+        storage.saveAddressBook(new AddressBook(addressBook));
+        assertEquals(bytesWritten, storage.getBytesWritten());
+    }
+
+    @Test
+    public void saveAddressBook_addAndRemove_replayedOnLoad() throws Exception {
+        new JournalAddressBookStorage(filePath()).saveAddressBook(getTypicalAddressBook());
+
+        // a fresh storage learns the saved persons by loading them
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath());
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.removePerson(BENSON);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(0, storage.getCompactionCount());
+        assertEquals(2, storage.getJournalEntryCount());
+        assertEquals(addressBook, reload());
+    }
+
+    @Test
+    public void saveAddressBook_reordered_compacts() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath());
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        // a journal can only append new persons, so any other reordering is saved in full
+        List<Person> reversed = new ArrayList<>(addressBook.getPersonList());
+        Collections.reverse(reversed);
+        AddressBook reversedAddressBook = new AddressBook();
+        reversedAddressBook.setPersons(reversed);
+        storage.saveAddressBook(reversedAddressBook);
+
+        assertEquals(2, storage.getCompactionCount());
+        assertEquals(reversedAddressBook, reload());
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compacts() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath(), 1, false);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(2, storage.getCompactionCount());
+        assertEquals(0, storage.getJournalEntryCount());
+        assertEquals(1, Files.readAllLines(journalPath()).size());
+        assertEquals(addressBook, reload());
+    }
+
+    @Test
+    public void readAddressBook_compactionCutShortBeforeJournalReplaced_ignoresStaleJournal() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath());
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        storage.saveAddressBook(addressBook);
+        byte[] staleJournal = Files.readAllBytes(journalPath());
+
+        // clearing compacts; putting the old journal back is what a crash after writing the snapshot leaves behind
+        storage.saveAddressBook(new AddressBook());
+        Files.write(journalPath(), staleJournal);
+
+        JournalAddressBookStorage reloadedStorage = new JournalAddressBookStorage(filePath());
+        AddressBook reloaded = new AddressBook(reloadedStorage.readAddressBook().get());
+        assertEquals(new AddressBook(), reloaded);
+
+        // the stale journal is replaced before anything is appended to it
+        reloaded.addPerson(HOON);
+        reloadedStorage.saveAddressBook(reloaded);
+        assertEquals(1, reloadedStorage.getCompactionCount());
+        assertEquals(reloaded, reload());
+    }
+
+    @Test
+    public void saveAddressBook_journalResetFailsAfterSnapshot_nextSaveCompacts() throws Exception {
+        FailingJournalStorage storage = new FailingJournalStorage(filePath());
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        // changing most persons compacts, which writes the snapshot and then fails to reset the journal
+        List<Person> originals = List.of(ALICE, BENSON, CARL, DANIEL);
+        List<Person> edited = new ArrayList<>();
+        for (Person person : originals) {
+            edited.add(new PersonBuilder(person).withPhone("99999999").build());
+            addressBook.setPerson(person, edited.get(edited.size() - 1));
+        }
+        storage.isReplaceFailing = true;
+        assertThrows(IOException.class, () -> storage.saveAddressBook(addressBook));
+
+        // undoing most of the change is small next to the old saved persons, but must not go to the old journal
+        storage.isReplaceFailing = false;
+        for (int i = 1; i < originals.size(); i++) {
+            addressBook.setPerson(edited.get(i), originals.get(i));
+        }
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(2, storage.getCompactionCount());
+        assertEquals(addressBook, reload());
+    }
+
+    @Test
+    public void saveAddressBook_appendFailsPartway_nextSaveCompacts() throws Exception {
+        FailingJournalStorage storage = new FailingJournalStorage(filePath());
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        storage.isAppendFailing = true;
+        assertThrows(IOException.class, () -> storage.saveAddressBook(addressBook));
+
+        // nothing is appended after the cut-short line, which would make the journal unreadable
+        storage.isAppendFailing = false;
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("88888888").build());
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(2, storage.getCompactionCount());
+        assertEquals(addressBook, reload());
+    }
+
+    @Test
+    public void readAddressBook_journalOfPlainSnapshot_ignored() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath());
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(BENSON);
+        storage.saveAddressBook(addressBook);
+
+        // a snapshot written without a journal generation has no journal entries to replay
+        new JsonAddressBookStorage(filePath()).saveAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(), reload());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignored() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath());
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        storage.saveAddressBook(addressBook);
+        Files.writeString(journalPath(), "{\"put\":{\"id\":", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        JournalAddressBookStorage reloadedStorage = new JournalAddressBookStorage(filePath());
+        AddressBook reloaded = new AddressBook(reloadedStorage.readAddressBook().get());
+        assertEquals(addressBook, reloaded);
+
+        // the cut-short entry is discarded by rewriting the snapshot before anything is appended
+        reloadedStorage.saveAddressBook(reloaded);
+        assertEquals(1, reloadedStorage.getCompactionCount());
+        assertEquals(addressBook, reload());
+    }
+
+    @Test
+    public void readAddressBook_batchCutShortAfterFirstEntry_loads() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath());
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        // deleting a person and adding them back gives them a new ID, so the batch removes one ID and puts another
+        addressBook.removePerson(BENSON);
+        addressBook.addPerson(new PersonBuilder(BENSON).build());
+        storage.saveAddressBook(addressBook);
+        List<String> lines = Files.readAllLines(journalPath());
+        assertEquals(3, lines.size());
+        Files.write(journalPath(), lines.subList(0, 2));
+
+        AddressBook expected = getTypicalAddressBook();
+        expected.removePerson(BENSON);
+        assertEquals(expected, reload());
+    }
+
+    @Test
+    public void readAddressBook_invalidEntryBeforeLast_throwsDataLoadingException() throws Exception {
+        new JournalAddressBookStorage(filePath()).saveAddressBook(getTypicalAddressBook());
+        Files.writeString(journalPath(), "not json\n{\"remove\":1}\n", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath()).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_entryWithoutChange_throwsDataLoadingException() throws Exception {
+        new JournalAddressBookStorage(filePath()).saveAddressBook(getTypicalAddressBook());
+        Files.writeString(journalPath(), "{}\n", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath()).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherPath_writesPlainJson() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath());
+        Path exportPath = testFolder.resolve("export.json");
+        storage.saveAddressBook(getTypicalAddressBook(), exportPath);
+
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalPath(exportPath)));
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(exportPath).readAddressBook().get()));
+    }
+
+    /**
+     * A storage whose journal writes can be made to fail, an append after writing half of its bytes.
+     */
+    private static class FailingJournalStorage extends JournalAddressBookStorage {
+        private boolean isAppendFailing;
+        private boolean isReplaceFailing;
+
+        FailingJournalStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        void appendToJournal(byte[] bytes) throws IOException {
+            if (isAppendFailing) {
+                super.appendToJournal(Arrays.copyOf(bytes, bytes.length / 2));
+                throw new IOException("Disk full");
+            }
+            super.appendToJournal(bytes);
+        }
+
+        @Override
+        void replaceJournal(String contents) throws IOException {
+            if (isReplaceFailing) {
+                throw new IOException("Disk full");
+            }
+            super.replaceJournal(contents);
+        }
+    }
+}
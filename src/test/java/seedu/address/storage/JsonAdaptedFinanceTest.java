@@ -72,6 +72,13 @@ public class JsonAdaptedFinanceTest {
         assertEquals(50.00, result.getOwedAmount().getAmount(), 0.001);
     }
 
+    @Test
+    public void toModelType_centsPrecisionAmount_roundTripsExactly() throws Exception {
+        Finance finance = new Finance(new FinanceAmount("999999.99"));
+        Finance result = new JsonAdaptedFinance(finance).toModelType();
+        assertEquals(finance.getOwedAmount(), result.getOwedAmount());
+    }
+
     @Test
     public void constructor_zeroOwedAmount_success() throws Exception {
         JsonAdaptedFinance jsonAdaptedFinance = new JsonAdaptedFinance("0.00");
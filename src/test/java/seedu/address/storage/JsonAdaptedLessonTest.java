@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.storage.JsonAdaptedLesson.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalLessons.MATH;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.lesson.AttendanceStatus;
 import seedu.address.model.lesson.Date;
+import seedu.address.model.lesson.Lesson;
 import seedu.address.model.lesson.LessonName;
 import seedu.address.model.lesson.Location;
 import seedu.address.model.lesson.Time;
@@ -32,6 +34,15 @@ public class JsonAdaptedLessonTest {
         assertEquals(MATH, lesson.toModelType());
     }
 
+    @Test
+    public void toModelType_repeatedLessonDetails_sharesValueObjects() throws Exception {
+        Lesson first = new JsonAdaptedLesson(MATH).toModelType();
+        Lesson second = new JsonAdaptedLesson(MATH).toModelType();
+        assertSame(first.getLessonName(), second.getLessonName());
+        assertSame(first.getDate(), second.getDate());
+        assertSame(first.getLocation(), second.getLocation());
+    }
+
     @Test
     public void toModelType_invalidLessonName_throwsIllegalValueException() {
         JsonAdaptedLesson lesson =
@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path REPEATED_PERSONS_FILE = TEST_DATA_FOLDER.resolve("repeatedPersonsAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        assertEquals(TypicalPersons.getTypicalAddressBook(), JsonAddressBookReader.read(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void read_invalidPersonFile_skipsInvalidPerson() throws Exception {
+        assertEquals(new AddressBook(), JsonAddressBookReader.read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_repeatedPersons_throwsIllegalValueExceptionListingAllDuplicates() {
+        String expectedMessage = String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON_DETAILS,
+                "Alice Pauline (alice@example.com), Benson Meier (johnd@example.com)");
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                JsonAddressBookReader.read(REPEATED_PERSONS_FILE));
+    }
+
+    @Test
+    public void read_otherFields_skipped() throws Exception {
+        Path file = testFolder.resolve("otherFields.json");
+        Files.writeString(file, "{\"version\": {\"major\": [1, 2]}, \"persons\": [{\"name\": \"Alice Pauline\", "
+                + "\"phone\": \"94351253\", \"email\": \"alice@example.com\", "
+                + "\"address\": \"123, Jurong West Ave 6\"}], \"notes\": \"ignored\"}");
+
+        AddressBook expected = new AddressBook();
+        expected.addPerson(new PersonBuilder().withName("Alice Pauline").withPhone("94351253")
+                .withEmail("alice@example.com").withAddress("123, Jurong West Ave 6").withTags().build());
+        assertEquals(expected, JsonAddressBookReader.read(file));
+    }
+
+    @Test
+    public void read_emptyObject_emptyAddressBook() throws Exception {
+        Path file = testFolder.resolve("empty.json");
+        Files.writeString(file, "{}");
+        assertEquals(new AddressBook(), JsonAddressBookReader.read(file));
+    }
+
+    @Test
+    public void read_notAnObject_throwsIoException() throws Exception {
+        Path file = testFolder.resolve("array.json");
+        Files.writeString(file, "[]");
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(file));
+    }
+
+    @Test
+    public void read_truncatedFile_throwsIoException() throws Exception {
+        Path file = testFolder.resolve("truncated.json");
+        String typicalPersons = Files.readString(TYPICAL_PERSONS_FILE);
+        Files.writeString(file, typicalPersons.substring(0, typicalPersons.length() / 2));
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(file));
+    }
+
+    @Test
+    public void read_manyPersons_sameAsReadingWholeFile() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 2000; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).withEmail("person" + i + "@example.com")
+                    .build());
+        }
+        Path file = testFolder.resolve("manyPersons.json");
+        new JsonAddressBookStorage(file).saveAddressBook(addressBook);
+
+        AddressBook streamed = JsonAddressBookReader.read(file);
+        assertEquals(addressBook, streamed);
+        assertEquals(JsonUtil.readJsonFile(file, JsonSerializableAddressBook.class).get().toModelType(), streamed);
+    }
+}
@@ -2,12 +2,14 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.testutil.TypicalPersons;
@@ -18,6 +20,7 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path REPEATED_PERSONS_FILE = TEST_DATA_FOLDER.resolve("repeatedPersonsAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -42,4 +45,13 @@ public class JsonSerializableAddressBookTest {
         assertDoesNotThrow(dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_repeatedPersons_throwsIllegalValueExceptionListingAllDuplicates() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(REPEATED_PERSONS_FILE,
+                JsonSerializableAddressBook.class).get();
+        String expectedMessage = String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON_DETAILS,
+                "Alice Pauline (alice@example.com), Benson Meier (johnd@example.com)");
+        assertThrows(IllegalValueException.class, expectedMessage, dataFromFile::toModelType);
+    }
+
 }
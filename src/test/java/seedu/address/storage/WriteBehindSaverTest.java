@@ -0,0 +1,188 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindSaverTest {
+
+    private static final long LONG_INTERVAL_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_negativeInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new WriteBehindSaver(new RecordingStorage(), -1));
+    }
+
+    @Test
+    public void submit_null_throwsNullPointerException() throws Exception {
+        try (WriteBehindSaver saver = new WriteBehindSaver(new RecordingStorage(), 0)) {
+            assertThrows(NullPointerException.class, () -> saver.submit(null));
+        }
+    }
+
+    @Test
+    public void submit_burstDuringWrite_writesLatestSnapshotOnce() throws Exception {
+        RecordingStorage storage = new RecordingStorage();
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch releaseWrite = new CountDownLatch(1);
+        storage.beforeWrite = () -> {
+            writeStarted.countDown();
+            releaseWrite.await();
+        };
+        ReadOnlyAddressBook first = new AddressBook();
+        ReadOnlyAddressBook second = new AddressBook();
+        ReadOnlyAddressBook third = getTypicalAddressBook();
+
+        try (WriteBehindSaver saver = new WriteBehindSaver(storage, 0)) {
+            saver.submit(first);
+            assertTrue(writeStarted.await(10, TimeUnit.SECONDS));
+
+            // the first write is still running, so these replace each other while they wait
+            saver.submit(second);
+            saver.submit(third);
+            releaseWrite.countDown();
+            saver.flush();
+
+            assertEquals(List.of(first, third), storage.saved);
+            assertEquals(2, saver.getWriteCount());
+            assertEquals(1, saver.getCoalescedCount());
+        }
+    }
+
+    @Test
+    public void flush_writeWaitingForInterval_writesImmediately() throws Exception {
+        RecordingStorage storage = new RecordingStorage();
+        ReadOnlyAddressBook first = new AddressBook();
+        ReadOnlyAddressBook second = getTypicalAddressBook();
+
+        try (WriteBehindSaver saver = new WriteBehindSaver(storage, LONG_INTERVAL_MILLIS)) {
+            saver.submit(first);
+            saver.flush();
+            // the next write may not start for an hour, unless flushed
+            saver.submit(second);
+            saver.flush();
+
+            assertEquals(List.of(first, second), storage.saved);
+        }
+    }
+
+    @Test
+    public void flush_nothingSubmitted_writesNothing() throws Exception {
+        RecordingStorage storage = new RecordingStorage();
+        try (WriteBehindSaver saver = new WriteBehindSaver(storage, 0)) {
+            saver.flush();
+            assertEquals(0, saver.getWriteCount());
+        }
+        assertTrue(storage.saved.isEmpty());
+    }
+
+    @Test
+    public void close_pendingSnapshot_writesToFile() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        addressBook.removePerson(ALICE);
+
+        WriteBehindSaver saver = new WriteBehindSaver(storage, LONG_INTERVAL_MILLIS);
+        saver.submit(new AddressBook());
+        saver.submit(snapshot);
+        saver.close();
+
+        // the snapshot is unaffected by changes made after it was taken
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void flush_lastWriteFailed_throwsAndNotifiesErrorHandler() throws Exception {
+        IOException error = new IOException("dummy IO exception");
+        RecordingStorage storage = new RecordingStorage();
+        storage.beforeWrite = () -> {
+            throw error;
+        };
+        AtomicReference<IOException> handled = new AtomicReference<>();
+
+        try (WriteBehindSaver saver = new WriteBehindSaver(storage, 0)) {
+            saver.setErrorHandler(handled::set);
+            saver.submit(new AddressBook());
+            assertThrows(IOException.class, saver::flush);
+            assertSame(error, handled.get());
+
+            // a later successful write brings the saved address book up to date again
+            storage.beforeWrite = () -> { };
+            saver.submit(new AddressBook());
+            saver.flush();
+            assertEquals(1, saver.getWriteCount());
+        }
+    }
+
+    @Test
+    public void close_lastWriteFailed_retriesFailedSnapshot() throws Exception {
+        RecordingStorage storage = new RecordingStorage();
+        storage.beforeWrite = () -> {
+            throw new IOException("dummy IO exception");
+        };
+        CountDownLatch writeFailed = new CountDownLatch(1);
+        ReadOnlyAddressBook snapshot = getTypicalAddressBook();
+
+        WriteBehindSaver saver = new WriteBehindSaver(storage, 0);
+        saver.setErrorHandler(error -> writeFailed.countDown());
+        saver.submit(snapshot);
+        assertTrue(writeFailed.await(10, TimeUnit.SECONDS));
+
+        // nothing newer was submitted, so closing writes the snapshot whose write failed
+        storage.beforeWrite = () -> { };
+        saver.close();
+        assertEquals(List.of(snapshot), storage.saved);
+        assertEquals(1, saver.getWriteCount());
+    }
+
+    /**
+     * Something to run before each write, which may block or fail it.
+     */
+    private interface WriteHook {
+        void run() throws IOException, InterruptedException;
+    }
+
+    /**
+     * Records every address book it is asked to save, without touching the disk.
+     */
+    private class RecordingStorage extends JsonAddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = new CopyOnWriteArrayList<>();
+        private volatile WriteHook beforeWrite = () -> { };
+
+        RecordingStorage() {
+            super(testFolder.resolve("unused.json"));
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            try {
+                beforeWrite.run();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            saved.add(addressBook);
+        }
+    }
+}